@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class AgentChangeLog {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private final int capacity;
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private final Lock lock = new ReentrantLock();
+    private Map<String, NodeStatus> current = new HashMap<>();
+    private long generation;
+    private long oldestGeneration;
+
+    AgentChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    AgentChangeLog(int capacity) {
+        this.capacity = capacity;
+    }
+
+    long record(@NonNull Map<String, NodeStatus> agents) {
+        lock.lock();
+        try {
+            if (generation == 0) {
+                generation = 1L;
+                oldestGeneration = generation;
+                current = new HashMap<>(agents);
+                return generation;
+            }
+
+            final long next = generation + 1L;
+            int changed = 0;
+
+            for (final Map.Entry<String, NodeStatus> agent : agents.entrySet()) {
+                if (!agent.getValue().equals(current.get(agent.getKey()))) {
+                    changes.addLast(new Change(next, agent.getKey(), agent.getValue()));
+                    changed++;
+                }
+            }
+            for (final String name : current.keySet()) {
+                if (!agents.containsKey(name)) {
+                    changes.addLast(new Change(next, name, null));
+                    changed++;
+                }
+            }
+
+            if (changed > 0) {
+                generation = next;
+                current = new HashMap<>(agents);
+                trim();
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Records only the given agents, so single agent updates do not compare the whole agents list.
+     */
+    long record(@NonNull Map<String, NodeStatus> changed, @NonNull Set<String> removed) {
+        lock.lock();
+        try {
+            if (generation == 0 || changed.isEmpty() && removed.isEmpty()) {
+                return generation;
+            }
+
+            final long next = generation + 1L;
+
+            for (final Map.Entry<String, NodeStatus> agent : changed.entrySet()) {
+                changes.addLast(new Change(next, agent.getKey(), agent.getValue()));
+                current.put(agent.getKey(), agent.getValue());
+            }
+            for (final String name : removed) {
+                changes.addLast(new Change(next, name, null));
+                current.remove(name);
+            }
+            generation = next;
+            trim();
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void restore(@NonNull Map<String, NodeStatus> agents, long restoredGeneration) {
+        lock.lock();
+        try {
+            if (generation == 0 && restoredGeneration > 0) {
+                generation = restoredGeneration;
+                oldestGeneration = restoredGeneration;
+                current = new HashMap<>(agents);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    byte[] changesSince(long since) {
+        lock.lock();
+        try {
+            final boolean full = since < oldestGeneration || since > generation || generation == 0;
+            final Map<String, NodeStatus> changed = new TreeMap<>();
+            final Set<String> removed = new TreeSet<>();
+
+            if (full) {
+                changed.putAll(current);
+            } else {
+                for (final Change change : changes) {
+                    if (change.generation() > since) {
+                        if (change.status() == null) {
+                            changed.remove(change.name());
+                            removed.add(change.name());
+                        } else {
+                            changed.put(change.name(), change.status());
+                            removed.remove(change.name());
+                        }
+                    }
+                }
+            }
+            return render(generation, full, changed, removed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void trim() {
+        while (changes.size() > capacity) {
+            oldestGeneration = Objects.requireNonNull(changes.pollFirst()).generation();
+        }
+    }
+
+    @NonNull
+    private static byte[] render(long generation, boolean full, @NonNull Map<String, NodeStatus> changed,
+                                 @NonNull Set<String> removed) {
+        final JsonWriter writer = new JsonWriter().beginObject()
+                .field("generation", generation)
+                .field("full", full)
+                .name("changed").beginObject();
+
+        for (final Map.Entry<String, NodeStatus> agent : changed.entrySet()) {
+            writer.name(agent.getKey());
+            agent.getValue().writeTo(writer);
+        }
+        writer.endObject().name("removed").beginArray();
+
+        for (final String name : removed) {
+            writer.value(name);
+        }
+        return writer.endArray().endObject().toByteArray();
+    }
+
+    private record Change(long generation, @NonNull String name, @CheckForNull NodeStatus status) {
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class AgentCircuitBreaker {
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    boolean isOpen(@NonNull String name, long now) {
+        final State state = states.get(name);
+        return state != null && state.openUntil() > now;
+    }
+
+    void recordTimeout(@NonNull String name, int threshold, long cooldownMs, long now) {
+        states.compute(name, (key, state) -> {
+            final int timeouts = state == null ? 1 : state.timeouts() + 1;
+            return new State(timeouts, timeouts >= threshold ? now + cooldownMs : 0);
+        });
+    }
+
+    void reset(@NonNull String name) {
+        states.remove(name);
+    }
+
+    private record State(int timeouts, long openUntil) {
+    }
+}
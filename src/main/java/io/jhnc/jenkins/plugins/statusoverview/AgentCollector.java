@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Computer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class AgentCollector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgentCollector.class);
+    private static final ThreadFactory COLLECTOR_THREAD_FACTORY = Thread.ofVirtual().name("status-overview-collector-", 0).factory();
+    private final Lock lock = new ReentrantLock();
+    private final AgentCircuitBreaker circuits = new AgentCircuitBreaker();
+    private final StatusOverviewMetrics metrics;
+    private final ThreadPoolExecutor executor;
+
+    AgentCollector(@NonNull StatusOverviewMetrics metrics, long idleTimeoutMs) {
+        final int threads = StatusOverviewConfiguration.DescriptorImpl.DEFAULT_COLLECTOR_THREADS;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(threads, threads, idleTimeoutMs, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                COLLECTOR_THREAD_FACTORY);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @NonNull
+    Map<String, NodeStatus> collect(@NonNull Map<String, Computer> computers, @NonNull Set<NodeField> fields, @NonNull Limits limits,
+                                    @NonNull BiFunction<Computer, Set<NodeField>, NodeStatus> collector) {
+        final Map<String, NodeStatus> entries = new LinkedHashMap<>();
+        resize(limits.threads());
+        final Map<String, Call> calls = new LinkedHashMap<>();
+
+        for (final Map.Entry<String, Computer> computer : computers.entrySet()) {
+            if (!circuits.isOpen(computer.getKey(), System.currentTimeMillis())) {
+                final AtomicLong started = new AtomicLong();
+                calls.put(computer.getKey(), new Call(computer.getValue(), started, executor.submit(() -> {
+                    started.set(System.nanoTime());
+                    return collector.apply(computer.getValue(), fields);
+                })));
+            }
+        }
+
+        try {
+            for (final Map.Entry<String, Computer> computer : computers.entrySet()) {
+                final Call call = calls.get(computer.getKey());
+
+                if (call == null) {
+                    metrics.recordAgentSkipped();
+                    entries.put(computer.getKey(), NodeStatus.unavailable(computer.getKey(), computer.getValue().getNumExecutors(),
+                            "circuit open", fields));
+                } else {
+                    entries.put(computer.getKey(), await(computer.getKey(), call, fields, limits));
+                }
+            }
+        } catch (InterruptedException e) {
+            calls.values().forEach(call -> call.result().cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while collecting agent data", e);
+        } catch (ExecutionException e) {
+            calls.values().forEach(call -> call.result().cancel(true));
+            throw new IllegalStateException("Failed to collect agent data", e);
+        }
+        return entries;
+    }
+
+    void reset(@NonNull String name) {
+        circuits.reset(name);
+    }
+
+    /*
+     * The timeout starts once the call runs on a collector thread. Calls still queued behind busy threads after a full
+     * timeout are given up as well, but do not count against the agent's circuit.
+     */
+    @NonNull
+    private NodeStatus await(@NonNull String name, @NonNull Call call, @NonNull Set<NodeField> fields, @NonNull Limits limits)
+            throws ExecutionException, InterruptedException {
+        final long timeoutNs = TimeUnit.MILLISECONDS.toNanos(limits.timeoutMs());
+        long remainingNs = timeoutNs;
+        long started;
+
+        do {
+            try {
+                final NodeStatus status = call.result().get(remainingNs, TimeUnit.NANOSECONDS);
+                circuits.reset(name);
+                return status;
+            } catch (TimeoutException e) {
+                started = call.started().get();
+                remainingNs = started == 0 ? 0 : started + timeoutNs - System.nanoTime();
+            }
+        } while (remainingNs > 0);
+
+        call.result().cancel(true);
+
+        if (started == 0) {
+            LOGGER.warn("Agent '{}' was not collected within {} ms, all collector threads are busy", name, limits.timeoutMs());
+        } else {
+            metrics.recordAgentTimeout();
+            circuits.recordTimeout(name, limits.threshold(), limits.cooldownMs(), System.currentTimeMillis());
+            LOGGER.warn("Agent '{}' did not respond within {} ms", name, limits.timeoutMs());
+        }
+        return NodeStatus.unavailable(name, call.computer().getNumExecutors(), "timed out", fields);
+    }
+
+    private void resize(int threads) {
+        lock.lock();
+
+        try {
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else if (threads < executor.getMaximumPoolSize()) {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record Limits(int threads, long timeoutMs, int threshold, long cooldownMs) {
+        @NonNull
+        static Limits from(@NonNull ConfigurationSnapshot configuration) {
+            return new Limits(configuration.getCollectorThreads(), TimeUnit.SECONDS.toMillis(configuration.getAgentTimeout()),
+                    configuration.getCircuitBreakerThreshold(), TimeUnit.SECONDS.toMillis(configuration.getCircuitBreakerCooldown()));
+        }
+    }
+
+    private record Call(@NonNull Computer computer, @NonNull AtomicLong started, @NonNull Future<NodeStatus> result) {
+    }
+}
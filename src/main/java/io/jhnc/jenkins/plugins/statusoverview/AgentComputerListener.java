@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.model.Computer;
+import hudson.model.TaskListener;
+import hudson.slaves.ComputerListener;
+import hudson.slaves.OfflineCause;
+
+@Extension
+public class AgentComputerListener extends ComputerListener {
+    @Override
+    public void onOnline(@NonNull Computer c, @CheckForNull TaskListener listener) {
+        getAction().agentConnected(c);
+        getAction().agentChanged(c.getName());
+        getAction().agentEvent(AgentEvent.ONLINE, c.getName(), null);
+    }
+
+    @Override
+    public void onOffline(@NonNull Computer c, @CheckForNull OfflineCause cause) {
+        getAction().agentDisconnected(c);
+        getAction().agentChanged(c.getName());
+        getAction().agentEvent(AgentEvent.OFFLINE, c.getName(), c.getOfflineCauseReason());
+    }
+
+    @Override
+    public void onTemporarilyOnline(@NonNull Computer c) {
+        getAction().agentChanged(c.getName());
+        getAction().agentEvent(AgentEvent.ONLINE, c.getName(), null);
+    }
+
+    @Override
+    public void onTemporarilyOffline(@NonNull Computer c, @CheckForNull OfflineCause cause) {
+        getAction().agentChanged(c.getName());
+        getAction().agentEvent(AgentEvent.OFFLINE, c.getName(), c.getOfflineCauseReason());
+    }
+
+    @NonNull
+    protected StatusOverviewAction getAction() {
+        return ExtensionList.lookupSingleton(StatusOverviewAction.class);
+    }
+}
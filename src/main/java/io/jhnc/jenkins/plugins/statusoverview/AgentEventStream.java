@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.AsyncContext;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class AgentEventStream {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgentEventStream.class);
+    private static final ThreadFactory WRITER_THREAD_FACTORY = Thread.ofVirtual().name("status-overview-stream-", 0).factory();
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.US_ASCII);
+    private static final long DEFAULT_HEARTBEAT_INTERVAL_MS = TimeUnit.SECONDS.toMillis(15);
+    private static final int DEFAULT_BUFFER_SIZE = 64;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final long heartbeatInterval;
+    private final int bufferSize;
+
+    AgentEventStream() {
+        this(DEFAULT_HEARTBEAT_INTERVAL_MS, DEFAULT_BUFFER_SIZE);
+    }
+
+    AgentEventStream(long heartbeatInterval, int bufferSize) {
+        this.heartbeatInterval = heartbeatInterval;
+        this.bufferSize = bufferSize;
+    }
+
+    @NonNull
+    HttpResponse subscribe(@NonNull byte[] snapshot) {
+        return new StreamResponse(encode("snapshot", snapshot));
+    }
+
+    void publish(@NonNull String event, @NonNull byte[] data) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        final byte[] message = encode(event, data);
+
+        for (final Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(message)) {
+                LOGGER.debug("Closing agent stream of a subscriber which does not keep up");
+                subscriber.close();
+            }
+        }
+    }
+
+    void publish(@NonNull AgentEvent event, @NonNull String name, @CheckForNull String reason) {
+        if (name.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+
+        final JsonWriter writer = new JsonWriter().beginObject().field("node", name);
+
+        if (reason != null) {
+            writer.field("reason", reason);
+        }
+        publish(event.getEventName(), writer.endObject().toByteArray());
+    }
+
+    boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @NonNull
+    private static byte[] encode(@NonNull String event, @NonNull byte[] data) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(event.length() + data.length + 16);
+        out.writeBytes(("event: " + event + "\ndata: ").getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(data);
+        out.writeBytes("\n\n".getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private final class Subscriber implements Runnable {
+        private final AsyncContext context;
+        private final BlockingQueue<byte[]> queue;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        Subscriber(@NonNull AsyncContext context, @NonNull byte[] initial) {
+            this.context = context;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+            this.queue.add(initial);
+        }
+
+        boolean offer(@NonNull byte[] message) {
+            return open.get() && queue.offer(message);
+        }
+
+        void close() {
+            open.set(false);
+            subscribers.remove(this);
+            queue.clear();
+        }
+
+        @Override
+        public void run() {
+            try (OutputStream out = context.getResponse().getOutputStream()) {
+                while (open.get()) {
+                    final byte[] message = queue.poll(heartbeatInterval, TimeUnit.MILLISECONDS);
+                    out.write(message == null ? HEARTBEAT : message);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Agent stream subscriber disconnected", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+                context.complete();
+            }
+        }
+    }
+
+    private final class StreamResponse extends CorsHttpResponse {
+        private final byte[] initial;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        StreamResponse(@NonNull byte[] initial) {
+            super("", "text/event-stream");
+            this.initial = initial;
+        }
+
+        @Override
+        public void generateResponse(@NonNull StaplerRequest2 req, @NonNull StaplerResponse2 rsp, Object node) throws IOException {
+            rsp.setContentType("text/event-stream;charset=UTF-8");
+            rsp.setHeader("Cache-Control", "no-cache");
+            rsp.setHeader("X-Accel-Buffering", "no");
+            addCorsHeaders(rsp);
+            rsp.flushBuffer();
+
+            final AsyncContext context = req.startAsync();
+            context.setTimeout(0);
+
+            final Subscriber subscriber = new Subscriber(context, initial);
+            subscribers.add(subscriber);
+            WRITER_THREAD_FACTORY.newThread(subscriber).start();
+        }
+    }
+}
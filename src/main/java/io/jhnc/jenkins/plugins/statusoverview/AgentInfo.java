@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jenkins.security.MasterToSlaveCallable;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+
+record AgentInfo(@CheckForNull String runtimeName, @CheckForNull String runtimeVersion, @CheckForNull String osName,
+                 @CheckForNull String osArch) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    static AgentInfo local() {
+        return new AgentInfo(System.getProperty("java.runtime.name"), System.getProperty("java.runtime.version"),
+                System.getProperty("os.name"), System.getProperty("os.arch"));
+    }
+
+    static final class Collector extends MasterToSlaveCallable<AgentInfo, IOException> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public AgentInfo call() {
+            return local();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Computer;
+import hudson.remoting.VirtualChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class AgentInfoCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgentInfoCache.class);
+    private final Map<Computer, Entry> entries = new ConcurrentHashMap<>();
+
+    void drop(@NonNull Computer computer) {
+        entries.remove(computer);
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    @CheckForNull
+    AgentInfo get(@NonNull Computer computer) {
+        final VirtualChannel channel = computer.getChannel();
+
+        if (channel == null) {
+            entries.remove(computer);
+            return null;
+        }
+
+        final Entry entry = entries.get(computer);
+
+        if (entry != null && entry.channel() == channel) {
+            return entry.info();
+        }
+        return load(computer, channel);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @CheckForNull
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private AgentInfo load(@NonNull Computer computer, @NonNull VirtualChannel channel) {
+        try {
+            final AgentInfo info = channel.call(new AgentInfo.Collector());
+            entries.put(computer, new Entry(channel, info));
+            return info;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to obtain agent information", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while obtaining agent information", e);
+        }
+        return null;
+    }
+
+    private record Entry(@NonNull VirtualChannel channel, @NonNull AgentInfo info) {
+    }
+}
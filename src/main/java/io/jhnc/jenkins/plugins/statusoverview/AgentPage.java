@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.util.HttpResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.kohsuke.stapler.HttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/*
+ * Pages of an agents snapshot, ordered by node name. The cursor is the (encoded) name of the last agent returned.
+ */
+final class AgentPage {
+    static final int DEFAULT_SIZE = 100;
+
+    private AgentPage() {
+    }
+
+    @NonNull
+    static HttpResponse render(@NonNull Snapshot snapshot, @CheckForNull String limitParameter, @CheckForNull String cursor,
+                               long refreshInterval) {
+        final int limit = parseLimit(limitParameter);
+        final String after = parseCursor(cursor);
+
+        if (limit <= 0 || after == null) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid limit or cursor");
+        }
+
+        final NavigableMap<String, NodeStatus> nodes = snapshot.getNodes();
+        final List<Map.Entry<String, NodeStatus>> entries = new ArrayList<>(Math.min(limit, DEFAULT_SIZE));
+        String last = after;
+
+        for (final Map.Entry<String, NodeStatus> entry : nodes.tailMap(after, false).entrySet()) {
+            if (entries.size() == limit) {
+                break;
+            }
+            entries.add(entry);
+            last = entry.getKey();
+        }
+
+        final String next = nodes.higherKey(last) == null ? null : encodeCursor(last);
+        final JsonWriter writer = new JsonWriter(entries.size() * NodeStatus.JSON_SIZE).beginObject().name("agents").beginArray();
+
+        for (final Map.Entry<String, NodeStatus> entry : entries) {
+            entry.getValue().writeTo(writer, entry.getKey());
+        }
+        writer.endArray().field("nextCursor", next).endObject();
+        return CorsHttpResponse.transientJson(new Snapshot(writer.toByteArray(), snapshot.getTimestamp()), refreshInterval);
+    }
+
+    private static int parseLimit(@CheckForNull String limit) {
+        try {
+            return limit == null ? DEFAULT_SIZE : Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @CheckForNull
+    private static String parseCursor(@CheckForNull String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return "";
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @NonNull
+    private static String encodeCursor(@NonNull String name) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+ * Applies updated agent entries to a copy of a published agents list; only the agents which actually changed or were
+ * removed are recorded.
+ */
+record AgentPatch(@NonNull NavigableMap<String, NodeStatus> nodes, @NonNull Map<String, NodeStatus> changed,
+                  @NonNull Set<String> removed) {
+
+    @NonNull
+    static AgentPatch apply(@NonNull Snapshot snapshot, @NonNull Set<String> names, @NonNull Map<String, NodeStatus> entries) {
+        final AgentPatch patch = new AgentPatch(new TreeMap<>(snapshot.getNodes()), new HashMap<>(), new HashSet<>());
+
+        for (final String name : names) {
+            final NodeStatus entry = entries.get(name);
+
+            if (entry == null) {
+                if (patch.nodes().remove(name) != null) {
+                    patch.removed().add(name);
+                }
+            } else if (!entry.equals(patch.nodes().put(name, entry))) {
+                patch.changed().put(name, entry);
+            }
+        }
+        return patch;
+    }
+
+    /*
+     * Agents updated after a full collection started keep their published entry, or stay removed.
+     */
+    @NonNull
+    static NavigableMap<String, NodeStatus> merge(@NonNull Map<String, NodeStatus> collected, @CheckForNull Snapshot current,
+                                                  @NonNull Set<String> updated) {
+        final NavigableMap<String, NodeStatus> nodes = new TreeMap<>(collected);
+
+        if (current != null) {
+            for (final String name : updated) {
+                final NodeStatus entry = current.getNodes().get(name);
+
+                if (entry == null) {
+                    nodes.remove(name);
+                } else {
+                    nodes.put(name, entry);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Agents added while an update is queued or running are coalesced into one update of the next batch.
+ *
+ * Each batch is stamped with a sequence number while full collections run, so a collection which started before an
+ * update does not replace the updated entries with its own, older ones. Stamps older than every running collection
+ * are dropped.
+ */
+final class AgentUpdateQueue {
+    private final Lock lock = new ReentrantLock();
+    private final Set<String> pending = new HashSet<>();
+    private final Map<String, Long> updated = new HashMap<>();
+    private final NavigableMap<Long, Integer> collecting = new TreeMap<>();
+    private final Function<Runnable, CompletableFuture<Void>> executor;
+    private final Consumer<Set<String>> update;
+    private CompletableFuture<Void> scheduled = CompletableFuture.completedFuture(null);
+    private boolean queued;
+    private long sequence;
+
+    AgentUpdateQueue(@NonNull Function<Runnable, CompletableFuture<Void>> executor, @NonNull Consumer<Set<String>> update) {
+        this.executor = executor;
+        this.update = update;
+    }
+
+    @NonNull
+    CompletableFuture<Void> add(@NonNull String name) {
+        lock.lock();
+        try {
+            pending.add(name);
+
+            if (!queued) {
+                queued = true;
+                scheduled = executor.apply(this::run);
+            }
+            return scheduled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long beginCollection() {
+        lock.lock();
+        try {
+            collecting.merge(sequence, 1, Integer::sum);
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void endCollection(long started) {
+        lock.lock();
+        try {
+            collecting.computeIfPresent(started, (stamp, count) -> count == 1 ? null : count - 1);
+            final long oldest = collecting.isEmpty() ? sequence : collecting.firstKey();
+            updated.values().removeIf(stamp -> stamp <= oldest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    Set<String> updatedSince(long started) {
+        lock.lock();
+        try {
+            return updated.entrySet().stream()
+                    .filter(stamp -> stamp.getValue() > started)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        final Set<String> names;
+
+        lock.lock();
+        try {
+            names = Set.copyOf(pending);
+            pending.clear();
+            queued = false;
+            sequence++;
+
+            if (!collecting.isEmpty()) {
+                for (final String name : names) {
+                    updated.put(name, sequence);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.accept(names);
+    }
+}
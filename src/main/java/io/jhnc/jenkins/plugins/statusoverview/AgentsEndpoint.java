@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.util.HttpResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.StaplerRequest2;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * The agents endpoint: the (paged) snapshot, the changes since a generation, the event stream and the sampled and
+ * archived history. The stream's initial snapshot carries the node name of each agent, like its events.
+ */
+final class AgentsEndpoint {
+    static final String STREAM_PATH = "/stream";
+    private static final String CHANGES_PATH = "/changes";
+    private static final String HISTORY_PATH = "/history";
+    private static final String ARCHIVE_PATH = "/archive";
+    private final AgentEventStream events = new AgentEventStream();
+    private final HistoryRecorder history = new HistoryRecorder();
+    private final SnapshotLoader loader;
+    private final long refreshIntervalMs;
+
+    AgentsEndpoint(@NonNull SnapshotLoader loader, long refreshIntervalMs) {
+        this.loader = loader;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    @NonNull
+    AgentEventStream getEvents() {
+        return events;
+    }
+
+    @NonNull
+    HistoryRecorder getHistory() {
+        return history;
+    }
+
+    @NonNull
+    HttpResponse respond(@NonNull StaplerRequest2 req, @NonNull Supplier<Path> historyDirectory) {
+        final String path = req.getRestOfPath();
+
+        if (STREAM_PATH.equals(path)) {
+            return stream();
+        }
+        if (CHANGES_PATH.equals(path)) {
+            return changes(req.getParameter("since"));
+        }
+        if (HISTORY_PATH.equals(path)) {
+            return history.historyResponse(req.getParameter("node"), req.getParameter("from"));
+        }
+        if (ARCHIVE_PATH.equals(path)) {
+            return history.archiveResponse(historyDirectory, req.getParameter("node"), req.getParameter("from"),
+                    req.getParameter("to"));
+        }
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return snapshot(req.getParameter("fields"), req.getParameter("limit"), req.getParameter("cursor"));
+        }
+        return HttpResponses.notFound();
+    }
+
+    @NonNull
+    private HttpResponse snapshot(@CheckForNull String fields, @CheckForNull String limit, @CheckForNull String cursor) {
+        final SnapshotKey key = SnapshotKey.parse(SnapshotKey.AGENTS, fields, NodeField.AGENT);
+
+        if (key == null) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid fields");
+        }
+
+        final Snapshot snapshot = loader.getCache().get(key);
+
+        if (snapshot == null) {
+            return HttpResponses.notFound();
+        }
+        if (limit == null && cursor == null) {
+            return CorsHttpResponse.json(snapshot, refreshIntervalMs);
+        }
+        return AgentPage.render(snapshot, limit, cursor, refreshIntervalMs);
+    }
+
+    @NonNull
+    private HttpResponse changes(@CheckForNull String parameter) {
+        final long since;
+
+        try {
+            since = parameter == null ? 0L : Long.parseLong(parameter);
+        } catch (NumberFormatException e) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid generation");
+        }
+
+        final Snapshot snapshot = loader.getCache().get(SnapshotKey.ALL_AGENTS);
+
+        if (snapshot == null) {
+            return HttpResponses.notFound();
+        }
+        return CorsHttpResponse.transientJson(new Snapshot(loader.getChanges().changesSince(since), snapshot.getTimestamp()),
+                refreshIntervalMs);
+    }
+
+    @NonNull
+    private HttpResponse stream() {
+        final Snapshot snapshot = loader.getCache().get(SnapshotKey.ALL_AGENTS);
+        final Map<String, NodeStatus> nodes = snapshot == null ? Map.of() : snapshot.getNodes();
+        final JsonWriter writer = new JsonWriter(nodes.size() * NodeStatus.JSON_SIZE).beginArray();
+
+        for (final Map.Entry<String, NodeStatus> node : nodes.entrySet()) {
+            node.getValue().writeTo(writer, node.getKey());
+        }
+        return events.subscribe(writer.endArray().toByteArray());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jenkins.model.Jenkins;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+
+/*
+ * Immutable copy of the configuration, published by the descriptor whenever it changes. Readers take it with a single
+ * volatile read instead of a descriptor lookup per page render or response.
+ */
+@SuppressWarnings("PMD.DataClass")
+final class ConfigurationSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationSnapshot.class);
+    static final ConfigurationSnapshot DEFAULTS = new ConfigurationSnapshot("",
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_COLLECTOR_THREADS,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_AGENT_TIMEOUT,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_COOLDOWN,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_HISTORY_RETENTION,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_RETENTION,
+            StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_COMPACTION,
+            false, false);
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private static volatile ConfigurationSnapshot current;
+    private final String overviewLink;
+    private final CorsHeaders corsHeaders;
+    private final int collectorThreads;
+    private final int agentTimeout;
+    private final int circuitBreakerThreshold;
+    private final int circuitBreakerCooldown;
+    private final int historyRetention;
+    private final int archiveRetention;
+    private final int archiveCompaction;
+    private final boolean archiveHistory;
+    private final boolean cacheableGet;
+
+    ConfigurationSnapshot(@NonNull String overviewLink, int collectorThreads, int agentTimeout,
+                          int circuitBreakerThreshold, int circuitBreakerCooldown, int historyRetention,
+                          int archiveRetention, int archiveCompaction, boolean archiveHistory,
+                          boolean cacheableGet) {
+        this.overviewLink = overviewLink;
+        this.corsHeaders = CorsHeaders.forOrigin(linkRoot(overviewLink));
+        this.collectorThreads = collectorThreads;
+        this.agentTimeout = agentTimeout;
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+        this.circuitBreakerCooldown = circuitBreakerCooldown;
+        this.historyRetention = historyRetention;
+        this.archiveRetention = archiveRetention;
+        this.archiveCompaction = archiveCompaction;
+        this.archiveHistory = archiveHistory;
+        this.cacheableGet = cacheableGet;
+    }
+
+    @NonNull
+    static ConfigurationSnapshot from(@NonNull StatusOverviewConfiguration.DescriptorImpl descriptor) {
+        return new ConfigurationSnapshot(descriptor.getOverviewLink(), descriptor.getCollectorThreads(),
+                descriptor.getAgentTimeout(), descriptor.getCircuitBreakerThreshold(),
+                descriptor.getCircuitBreakerCooldown(), descriptor.getHistoryRetention(),
+                descriptor.getArchiveRetention(), descriptor.getArchiveCompaction(), descriptor.isArchiveHistory(),
+                descriptor.isCacheableGet());
+    }
+
+    static void publish(@CheckForNull ConfigurationSnapshot snapshot) {
+        current = snapshot;
+    }
+
+    @NonNull
+    static ConfigurationSnapshot get() {
+        final ConfigurationSnapshot snapshot = current;
+        return snapshot == null ? lookup() : snapshot;
+    }
+
+    @NonNull
+    static String linkRoot(@NonNull String overviewLink) {
+        if (overviewLink.isEmpty()) {
+            return overviewLink;
+        }
+
+        /*
+         * A stored or JCasC provided link bypasses the form validation, so it must not fail loading the configuration.
+         */
+        try {
+            final URI uri = URI.create(overviewLink);
+
+            if (uri.getScheme() != null && uri.getAuthority() != null) {
+                return uri.getScheme() + "://" + uri.getAuthority();
+            }
+            LOGGER.warn("Overview link '{}' has no scheme and host, no CORS headers are sent", overviewLink);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Overview link '{}' is malformed, no CORS headers are sent: {}", overviewLink, e.getMessage());
+        }
+        return "";
+    }
+
+    @NonNull
+    String getOverviewLink() {
+        return overviewLink;
+    }
+
+    @NonNull
+    CorsHeaders getCorsHeaders() {
+        return corsHeaders;
+    }
+
+    int getCollectorThreads() {
+        return collectorThreads;
+    }
+
+    int getAgentTimeout() {
+        return agentTimeout;
+    }
+
+    int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    int getCircuitBreakerCooldown() {
+        return circuitBreakerCooldown;
+    }
+
+    int getHistoryRetention() {
+        return historyRetention;
+    }
+
+    int getArchiveRetention() {
+        return archiveRetention;
+    }
+
+    int getArchiveCompaction() {
+        return archiveCompaction;
+    }
+
+    boolean isArchiveHistory() {
+        return archiveHistory;
+    }
+
+    boolean isCacheableGet() {
+        return cacheableGet;
+    }
+
+    /*
+     * Nothing is published until the descriptor is loaded, which the lookup triggers.
+     */
+    @NonNull
+    private static ConfigurationSnapshot lookup() {
+        final Jenkins jenkins = Jenkins.getInstanceOrNull();
+
+        if (jenkins != null) {
+            jenkins.getDescriptor(StatusOverviewConfiguration.class);
+        }
+
+        final ConfigurationSnapshot snapshot = current;
+        return snapshot == null ? DEFAULTS : snapshot;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+final class CorsHeaders {
+    static final CorsHeaders NONE = new CorsHeaders("");
+    static final long MAX_AGE = TimeUnit.HOURS.toSeconds(2);
+    private static final String ALLOWED_METHODS = "GET, POST, OPTIONS";
+    private static final String ALLOWED_HEADERS = "Content-Type, If-None-Match, Jenkins-Crumb, Authorization, Last-Event-ID";
+    private static final String EXPOSED_HEADERS = "Age, ETag, X-Next-Refresh, X-Generation, X-Stale";
+    private final String origin;
+
+    private CorsHeaders(@NonNull String origin) {
+        this.origin = origin;
+    }
+
+    @NonNull
+    static CorsHeaders forOrigin(@NonNull String origin) {
+        return origin.isEmpty() ? NONE : new CorsHeaders(origin);
+    }
+
+    @NonNull
+    String getOrigin() {
+        return origin;
+    }
+
+    boolean isEnabled() {
+        return !origin.isEmpty();
+    }
+
+    boolean allows(@CheckForNull String requestOrigin) {
+        return isEnabled() && origin.equals(requestOrigin);
+    }
+
+    void addTo(@NonNull HttpServletResponse rsp) {
+        if (isEnabled()) {
+            rsp.addHeader("Access-Control-Allow-Origin", origin);
+            rsp.addHeader("Access-Control-Allow-Credentials", "true");
+            rsp.addHeader("Access-Control-Expose-Headers", EXPOSED_HEADERS);
+        }
+    }
+
+    void addPreflightTo(@NonNull HttpServletResponse rsp) {
+        if (isEnabled()) {
+            rsp.addHeader("Access-Control-Allow-Origin", origin);
+            rsp.addHeader("Access-Control-Allow-Credentials", "true");
+            rsp.addHeader("Access-Control-Allow-Methods", ALLOWED_METHODS);
+            rsp.addHeader("Access-Control-Allow-Headers", ALLOWED_HEADERS);
+            rsp.addHeader("Access-Control-Max-Age", Long.toString(MAX_AGE));
+        }
+    }
+}
@@ -24,52 +24,177 @@
 
 package io.jhnc.jenkins.plugins.statusoverview;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import groovy.json.JsonBuilder;
+import hudson.security.csrf.CrumbIssuer;
+import jakarta.servlet.http.HttpServletResponse;
 import jenkins.model.Jenkins;
 import org.kohsuke.stapler.HttpResponse;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.StaplerResponse2;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
+@SuppressWarnings("PMD.TooManyMethods")
 public class CorsHttpResponse implements HttpResponse {
-    private final String text;
+    private static final String GZIP = "gzip";
+    private static final String CACHE_VARY = "Authorization, Cookie";
+    private final byte[] body;
+    private final Snapshot snapshot;
     private final String contentType;
+    private final long refreshInterval;
+    private final boolean cached;
 
     public CorsHttpResponse(@NonNull String text, @NonNull String contentType) {
-        this.text = text;
+        this.body = text.getBytes(StandardCharsets.UTF_8);
+        this.snapshot = null;
         this.contentType = contentType;
+        this.refreshInterval = 0L;
+        this.cached = false;
+    }
+
+    CorsHttpResponse(@NonNull Snapshot snapshot, @NonNull String contentType, long refreshInterval, boolean cached) {
+        this.body = snapshot.getPayload();
+        this.snapshot = snapshot;
+        this.contentType = contentType;
+        this.refreshInterval = refreshInterval;
+        this.cached = cached;
     }
 
     @Override
     public void generateResponse(StaplerRequest2 req, @NonNull StaplerResponse2 rsp, Object node) throws IOException {
         rsp.setContentType(contentType + ";charset=UTF-8");
+        addCorsHeaders(rsp);
+
+        if (snapshot == null) {
+            write(rsp, body);
+            return;
+        }
+
+        addSnapshotHeaders(req, rsp);
 
-        final String originUrl = getOriginUrl();
+        if (!cached) {
+            write(rsp, body);
+            return;
+        }
+
+        rsp.addHeader("Vary", "Accept-Encoding");
+        final boolean compressed = req != null && acceptsGzip(req.getHeader("Accept-Encoding"));
+        final String etag = compressed ? snapshot.getCompressedETag() : snapshot.getETag();
+        rsp.setHeader("ETag", etag);
 
-        if (!originUrl.isEmpty()) {
-            rsp.addHeader("Access-Control-Allow-Origin", originUrl);
-            rsp.addHeader("Access-Control-Allow-Credentials", "true");
+        if (req != null && matchesETag(req.getHeader("If-None-Match"), etag)) {
+            rsp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
         }
 
-        try (PrintWriter pw = rsp.getWriter()) {
-            pw.print(text);
-            pw.flush();
+        if (compressed) {
+            rsp.setHeader("Content-Encoding", GZIP);
+            write(rsp, snapshot.getCompressedPayload());
+        } else {
+            write(rsp, body);
         }
     }
 
+    void addCorsHeaders(@NonNull StaplerResponse2 rsp) {
+        getConfiguration().getCorsHeaders().addTo(rsp);
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
     @NonNull
-    protected Jenkins getJenkins() {
-        return Jenkins.get();
+    ConfigurationSnapshot getConfiguration() {
+        return ConfigurationSnapshot.get();
     }
 
+    @CheckForNull
+    CrumbIssuer getCrumbIssuer() {
+        final Jenkins jenkins = Jenkins.getInstanceOrNull();
+        return jenkins == null ? null : jenkins.getCrumbIssuer();
+    }
+
+    /*
+     * Cacheable GET requests are authorized by the crumb header RequirePOSTOrCacheableGET validates, so responses vary
+     * by the field name of the configured crumb issuer.
+     */
     @NonNull
-    private String getOriginUrl() {
-        final StatusOverviewConfiguration.DescriptorImpl descriptor = (StatusOverviewConfiguration.DescriptorImpl)
-                getJenkins().getDescriptor(StatusOverviewConfiguration.class);
-        return descriptor == null ? "" : descriptor.getLinkRoot();
+    private String getCacheVary() {
+        final CrumbIssuer issuer = getCrumbIssuer();
+        return issuer == null ? CACHE_VARY : CACHE_VARY + ", " + issuer.getCrumbRequestField();
+    }
+
+    private void addSnapshotHeaders(@CheckForNull StaplerRequest2 req, @NonNull StaplerResponse2 rsp) {
+        final long now = currentTimeMillis();
+        final long age = toSeconds(now - snapshot.getTimestamp());
+        final long nextRefresh = toSeconds(snapshot.getTimestamp() + refreshInterval - now);
+        rsp.setHeader("Age", Long.toString(age));
+        rsp.setHeader("X-Next-Refresh", Long.toString(nextRefresh));
+
+        if (req != null && "GET".equals(req.getMethod())) {
+            /*
+             * Caches subtract the Age header, so the snapshot stays fresh until its refresh is due.
+             */
+            rsp.setHeader("Cache-Control", "private, max-age=" + (age + nextRefresh));
+            rsp.addHeader("Vary", getCacheVary());
+        }
+
+        if (snapshot.getGeneration() > 0) {
+            rsp.setHeader("X-Generation", Long.toString(snapshot.getGeneration()));
+        }
+        if (snapshot.isStale()) {
+            rsp.setHeader("X-Stale", "true");
+        }
+    }
+
+    private static void write(@NonNull StaplerResponse2 rsp, @NonNull byte[] content) throws IOException {
+        rsp.setContentLength(content.length);
+
+        try (OutputStream out = rsp.getOutputStream()) {
+            out.write(content);
+            out.flush();
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return TimeUnit.MILLISECONDS.toSeconds(Math.max(0L, millis));
+    }
+
+    private static boolean matchesETag(@CheckForNull String ifNoneMatch, @NonNull String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+
+            if ("*".equals(tag) || etag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(@CheckForNull String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+
+            if (GZIP.equals(name) || "x-gzip".equals(name)) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @NonNull
@@ -77,6 +202,19 @@ public class CorsHttpResponse implements HttpResponse {
         return json(new JsonBuilder(obj).toString());
     }
 
+    @NonNull
+    static CorsHttpResponse json(@NonNull Snapshot snapshot, long refreshInterval) {
+        return new CorsHttpResponse(snapshot, "application/json", refreshInterval, true);
+    }
+
+    /*
+     * Payloads built per request are served as they are, without a compressed copy or ETag.
+     */
+    @NonNull
+    static CorsHttpResponse transientJson(@NonNull Snapshot snapshot, long refreshInterval) {
+        return new CorsHttpResponse(snapshot, "application/json", refreshInterval, false);
+    }
+
     @NonNull
     public static CorsHttpResponse json(@NonNull String payload) {
         return new CorsHttpResponse(payload, "application/json");
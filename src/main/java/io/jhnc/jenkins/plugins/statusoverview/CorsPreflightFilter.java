@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.util.PluginServletFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/*
+ * Browsers send preflight requests without credentials, so they are answered here before Jenkins checks permissions.
+ */
+public class CorsPreflightFilter implements Filter {
+    private static final String PATH = "/status-overview/";
+
+    @Initializer(after = InitMilestone.PLUGINS_STARTED)
+    public static void register() throws ServletException {
+        PluginServletFilter.addFilter(new CorsPreflightFilter());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (request instanceof HttpServletRequest req && response instanceof HttpServletResponse rsp && isPreflight(req)) {
+            final CorsHeaders headers = getConfiguration().getCorsHeaders();
+
+            if (headers.allows(req.getHeader("Origin"))) {
+                headers.addPreflightTo(rsp);
+                rsp.setStatus(HttpServletResponse.SC_NO_CONTENT);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    @NonNull
+    ConfigurationSnapshot getConfiguration() {
+        return ConfigurationSnapshot.get();
+    }
+
+    private static boolean isPreflight(@NonNull HttpServletRequest req) {
+        if (!"OPTIONS".equals(req.getMethod()) || req.getHeader("Access-Control-Request-Method") == null) {
+            return false;
+        }
+
+        final String uri = req.getRequestURI();
+        final String contextPath = req.getContextPath();
+        return uri != null && uri.startsWith(PATH, contextPath == null ? 0 : contextPath.length());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Computer;
+import hudson.node_monitors.SwapSpaceMonitor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class FleetSummary {
+    private final Map<String, Totals> agents = new ConcurrentHashMap<>();
+    private final LongAdder online = new LongAdder();
+    private final LongAdder offline = new LongAdder();
+    private final LongAdder executors = new LongAdder();
+    private final LongAdder busyExecutors = new LongAdder();
+    private final LongAdder totalMemory = new LongAdder();
+    private final LongAdder usedMemory = new LongAdder();
+    private final AtomicLong timestamp = new AtomicLong();
+
+    boolean isInitialized() {
+        return timestamp.get() > 0;
+    }
+
+    long getTimestamp() {
+        return timestamp.get();
+    }
+
+    void update(@NonNull String name, @NonNull Totals totals, long now) {
+        agents.compute(name, (key, previous) -> {
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(totals, 1);
+            return totals;
+        });
+        timestamp.set(now);
+    }
+
+    void refresh(@NonNull String name, @CheckForNull Computer computer, long now) {
+        if (computer == null) {
+            remove(name, now);
+        } else {
+            update(name, Totals.from(computer), now);
+        }
+    }
+
+    /*
+     * Agent events update the totals incrementally; busy executors and memory readings have no events, so they are
+     * reconciled with each refresh.
+     */
+    void reconcile(@NonNull Map<String, Computer> computers, long now) {
+        for (final Map.Entry<String, Computer> computer : computers.entrySet()) {
+            update(computer.getKey(), Totals.from(computer.getValue()), now);
+        }
+        retain(computers.keySet(), now);
+    }
+
+    void remove(@NonNull String name, long now) {
+        agents.computeIfPresent(name, (key, previous) -> {
+            apply(previous, -1);
+            return null;
+        });
+        timestamp.set(now);
+    }
+
+    void retain(@NonNull Set<String> names, long now) {
+        for (final String name : agents.keySet()) {
+            if (!names.contains(name)) {
+                remove(name, now);
+            }
+        }
+        timestamp.set(now);
+    }
+
+    @NonNull
+    byte[] toJson() {
+        return new JsonWriter()
+                .beginObject()
+                .name("agents").beginObject()
+                .field("online", online.sum())
+                .field("offline", offline.sum())
+                .endObject()
+                .name("executors").beginObject()
+                .field("total", executors.sum())
+                .field("busy", busyExecutors.sum())
+                .endObject()
+                .name("memory").beginObject()
+                .field("total", totalMemory.sum())
+                .field("used", usedMemory.sum())
+                .endObject()
+                .endObject()
+                .toByteArray();
+    }
+
+    private void apply(@NonNull Totals totals, int sign) {
+        (totals.online() ? online : offline).add(sign);
+        executors.add((long) sign * totals.executors());
+        busyExecutors.add((long) sign * totals.busyExecutors());
+        totalMemory.add(sign * totals.totalMemory());
+        usedMemory.add(sign * totals.usedMemory());
+    }
+
+    record Totals(boolean online, int executors, int busyExecutors, long totalMemory, long usedMemory) {
+
+        @NonNull
+        static Totals from(@NonNull Computer computer) {
+            final Map<String, Object> monitorData = computer.getMonitorData();
+            final Object memory = monitorData == null ? null : monitorData.get("hudson.node_monitors.SwapSpaceMonitor");
+
+            if (memory instanceof SwapSpaceMonitor.MemoryUsage2 usage) {
+                return new Totals(!computer.isOffline(), computer.getNumExecutors(), computer.countBusy(),
+                        usage.totalPhysicalMemory, usage.totalPhysicalMemory - usage.availablePhysicalMemory);
+            }
+            return new Totals(!computer.isOffline(), computer.getNumExecutors(), computer.countBusy(), 0, 0);
+        }
+    }
+}
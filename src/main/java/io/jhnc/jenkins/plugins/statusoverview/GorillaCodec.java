@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Encodes samples as in Facebook's Gorilla paper: timestamps (in seconds) as delta-of-delta and each value as XOR
+ * against its previous value, so unchanged values take a single bit. Unlike for doubles, the leading zeros of the
+ * small integer values are stored in 6 bits. Used memory is stored in MiB.
+ */
+final class GorillaCodec {
+    private static final int MEMORY_SHIFT = 20;
+
+    private GorillaCodec() {
+    }
+
+    @NonNull
+    static byte[] encode(@NonNull List<HistorySample> samples) {
+        final BitWriter out = new BitWriter();
+        final XorChannel online = new XorChannel();
+        final XorChannel executors = new XorChannel();
+        final XorChannel busyExecutors = new XorChannel();
+        final XorChannel usedMemory = new XorChannel();
+        long previousTime = 0L;
+        long previousDelta = 0L;
+
+        for (int i = 0; i < samples.size(); i++) {
+            final HistorySample sample = samples.get(i);
+            final long time = TimeUnit.MILLISECONDS.toSeconds(sample.timestamp());
+
+            if (i == 0) {
+                out.write(time, Long.SIZE);
+            } else {
+                final long delta = time - previousTime;
+                writeDeltaOfDelta(out, delta - previousDelta);
+                previousDelta = delta;
+            }
+            previousTime = time;
+            online.write(out, sample.online() ? 1L : 0L);
+            executors.write(out, sample.executors());
+            busyExecutors.write(out, sample.busyExecutors());
+            usedMemory.write(out, sample.usedMemory() >> MEMORY_SHIFT);
+        }
+        return out.toByteArray();
+    }
+
+    @NonNull
+    static List<HistorySample> decode(@NonNull ByteBuffer buffer, int count) throws IOException {
+        final BitReader in = new BitReader(buffer);
+        final XorChannel online = new XorChannel();
+        final XorChannel executors = new XorChannel();
+        final XorChannel busyExecutors = new XorChannel();
+        final XorChannel usedMemory = new XorChannel();
+        final List<HistorySample> samples = new ArrayList<>(count);
+        long time = 0L;
+        long delta = 0L;
+
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                time = in.read(Long.SIZE);
+            } else {
+                delta += readDeltaOfDelta(in);
+                time += delta;
+            }
+            samples.add(new HistorySample(TimeUnit.SECONDS.toMillis(time), online.read(in) != 0L, (int) executors.read(in),
+                    (int) busyExecutors.read(in), usedMemory.read(in) << MEMORY_SHIFT));
+        }
+        return samples;
+    }
+
+    private static void writeDeltaOfDelta(@NonNull BitWriter out, long value) {
+        if (value == 0) {
+            out.write(0b0, 1);
+        } else if (fits(value, 7)) {
+            out.write(0b10, 2);
+            out.write(value, 7);
+        } else if (fits(value, 9)) {
+            out.write(0b110, 3);
+            out.write(value, 9);
+        } else if (fits(value, 12)) {
+            out.write(0b1110, 4);
+            out.write(value, 12);
+        } else {
+            out.write(0b1111, 4);
+            out.write(value, Long.SIZE);
+        }
+    }
+
+    private static long readDeltaOfDelta(@NonNull BitReader in) throws IOException {
+        if (!in.readBit()) {
+            return 0L;
+        }
+        if (!in.readBit()) {
+            return in.readSigned(7);
+        }
+        if (!in.readBit()) {
+            return in.readSigned(9);
+        }
+        if (!in.readBit()) {
+            return in.readSigned(12);
+        }
+        return in.readSigned(Long.SIZE);
+    }
+
+    private static boolean fits(long value, int bits) {
+        return value >= -(1L << bits - 1) && value < 1L << bits - 1;
+    }
+
+    private static final class XorChannel {
+        private long value;
+        private int leading = -1;
+        private int trailing;
+
+        void write(@NonNull BitWriter out, long next) {
+            final long xor = value ^ next;
+            value = next;
+
+            if (xor == 0) {
+                out.write(0b0, 1);
+                return;
+            }
+
+            final int nextLeading = Long.numberOfLeadingZeros(xor);
+            final int nextTrailing = Long.numberOfTrailingZeros(xor);
+
+            if (leading >= 0 && nextLeading >= leading && nextTrailing >= trailing) {
+                out.write(0b10, 2);
+                out.write(xor >>> trailing, Long.SIZE - leading - trailing);
+            } else {
+                leading = nextLeading;
+                trailing = nextTrailing;
+                final int length = Long.SIZE - leading - trailing;
+                out.write(0b11, 2);
+                out.write(leading, 6);
+                out.write(length - 1L, 6);
+                out.write(xor >>> trailing, length);
+            }
+        }
+
+        long read(@NonNull BitReader in) throws IOException {
+            if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.read(6);
+                    trailing = Long.SIZE - leading - (int) in.read(6) - 1;
+                }
+                value ^= in.read(Long.SIZE - leading - trailing) << trailing;
+            }
+            return value;
+        }
+    }
+
+    private static final class BitWriter {
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        void write(long value, int bits) {
+            for (int i = bits - 1; i >= 0; i--) {
+                if (position >>> 3 == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if ((value >>> i & 1L) != 0) {
+                    buffer[position >>> 3] |= (byte) (0x80 >>> (position & 7));
+                }
+                position++;
+            }
+        }
+
+        @NonNull
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position + 7 >>> 3);
+        }
+    }
+
+    private static final class BitReader {
+        private final ByteBuffer buffer;
+        private long position;
+
+        BitReader(@NonNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean readBit() throws IOException {
+            final long index = position >>> 3;
+
+            if (index >= buffer.limit()) {
+                throw new IOException("Truncated history block");
+            }
+            final boolean bit = (buffer.get((int) index) & 0x80 >>> (position & 7)) != 0;
+            position++;
+            return bit;
+        }
+
+        long read(int bits) throws IOException {
+            long value = 0L;
+
+            for (int i = 0; i < bits; i++) {
+                value = value << 1 | (readBit() ? 1L : 0L);
+            }
+            return value;
+        }
+
+        long readSigned(int bits) throws IOException {
+            return read(bits) << Long.SIZE - bits >> Long.SIZE - bits;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/*
+ * Pending samples are appended hourly as one Gorilla encoded block per agent to the segment file of their (UTC) day.
+ * Once old enough, a day's blocks are compacted into one block per agent.
+ *
+ * Samples are keyed by their timestamp when compacting and reading, so samples written twice (a flush failing
+ * part-way, or a crash between replacing the compacted segment and deleting the segment) are returned only once.
+ * Reads share the file lock and take the pending lock only to copy the agent's pending samples, so they do not block
+ * sampling.
+ */
+final class HistoryArchive {
+    static final long BLOCK_MS = TimeUnit.HOURS.toMillis(1);
+    private static final String SEGMENT = ".seg";
+    private static final String COMPACTED = ".cseg";
+    private final PendingHistory pending = new PendingHistory();
+    private final ReadWriteLock files = new ReentrantReadWriteLock();
+
+    void add(long timestamp, @NonNull Map<String, FleetSummary.Totals> samples) {
+        pending.add(timestamp, samples);
+    }
+
+    boolean isFlushDue(long now) {
+        return pending.isFlushDue(now);
+    }
+
+    /*
+     * Each day's samples leave the pending samples once their segment is written, so a failing day does not append
+     * the days before it again.
+     */
+    void flush(@NonNull Path directory) throws IOException {
+        files.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+
+            for (final Map.Entry<LocalDate, Map<String, List<HistorySample>>> day : pending.days().entrySet()) {
+                HistorySegment.append(directory.resolve(day.getKey() + SEGMENT), day.getValue());
+                pending.written(day.getValue());
+            }
+        } finally {
+            files.writeLock().unlock();
+        }
+    }
+
+    void maintain(@NonNull Path directory, long now, int retentionDays, int compactionDays) throws IOException {
+        files.writeLock().lock();
+        try {
+            final LocalDate today = day(now);
+
+            for (final Map.Entry<Path, LocalDate> segment : segments(directory).entrySet()) {
+                final LocalDate day = segment.getValue();
+
+                if (day.isBefore(today.minusDays(retentionDays))) {
+                    Files.deleteIfExists(segment.getKey());
+                } else if (segment.getKey().getFileName().toString().endsWith(SEGMENT)
+                        && !day.isAfter(today.minusDays(compactionDays))) {
+                    compact(directory, day);
+                }
+            }
+        } finally {
+            files.writeLock().unlock();
+        }
+    }
+
+    @NonNull
+    List<HistorySample> read(@NonNull Path directory, @NonNull String name, long from, long to) throws IOException {
+        final byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+        final NavigableMap<Long, HistorySample> samples = new TreeMap<>();
+
+        files.readLock().lock();
+        try {
+            for (final Map.Entry<Path, LocalDate> segment : segments(directory).entrySet()) {
+                if (!segment.getValue().isBefore(day(from)) && !segment.getValue().isAfter(day(to))) {
+                    addInRange(samples, HistorySegment.read(segment.getKey(), encodedName, from, to), from, to);
+                }
+            }
+            addInRange(samples, pending.get(name), from, to);
+        } finally {
+            files.readLock().unlock();
+        }
+        return new ArrayList<>(samples.values());
+    }
+
+    @NonNull
+    static byte[] toJson(@NonNull String name, long from, long to, @NonNull List<HistorySample> samples) {
+        final JsonWriter times = new JsonWriter().beginArray();
+        final JsonWriter online = new JsonWriter().beginArray();
+        final JsonWriter executors = new JsonWriter().beginArray();
+        final JsonWriter busyExecutors = new JsonWriter().beginArray();
+        final JsonWriter usedMemory = new JsonWriter().beginArray();
+
+        for (final HistorySample sample : samples) {
+            times.value(sample.timestamp());
+            online.value(sample.online());
+            executors.value(sample.executors());
+            busyExecutors.value(sample.busyExecutors());
+            usedMemory.value(sample.usedMemory());
+        }
+
+        return new JsonWriter().beginObject()
+                .field("node", name)
+                .field("from", from)
+                .field("to", to)
+                .name("timestamps").raw(times.endArray().toByteArray())
+                .name("online").raw(online.endArray().toByteArray())
+                .name("executors").raw(executors.endArray().toByteArray())
+                .name("busyExecutors").raw(busyExecutors.endArray().toByteArray())
+                .name("usedMemory").raw(usedMemory.endArray().toByteArray())
+                .endObject()
+                .toByteArray();
+    }
+
+    private void compact(@NonNull Path directory, @NonNull LocalDate day) throws IOException {
+        final Path target = directory.resolve(day + COMPACTED);
+        final Path segment = directory.resolve(day + SEGMENT);
+        final Map<String, NavigableMap<Long, HistorySample>> agents = new TreeMap<>();
+
+        for (final Path file : List.of(target, segment)) {
+            if (Files.exists(file)) {
+                for (final HistorySegment.Block block : HistorySegment.read(file)) {
+                    addInRange(agents.computeIfAbsent(new String(block.name(), StandardCharsets.UTF_8), name -> new TreeMap<>()),
+                            block.decode(), Long.MIN_VALUE, Long.MAX_VALUE);
+                }
+            }
+        }
+
+        final Map<String, List<HistorySample>> compacted = new TreeMap<>();
+
+        for (final Map.Entry<String, NavigableMap<Long, HistorySample>> agent : agents.entrySet()) {
+            compacted.put(agent.getKey(), new ArrayList<>(agent.getValue().values()));
+        }
+
+        final Path temp = Files.createTempFile(directory, day.toString(), ".tmp");
+
+        try {
+            HistorySegment.write(temp, compacted);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(segment);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @NonNull
+    private static Map<Path, LocalDate> segments(@NonNull Path directory) throws IOException {
+        final Map<Path, LocalDate> segments = new TreeMap<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.toList()) {
+                final String name = file.getFileName().toString();
+                final int suffix = name.endsWith(SEGMENT) ? SEGMENT.length() : COMPACTED.length();
+
+                if (name.endsWith(SEGMENT) || name.endsWith(COMPACTED)) {
+                    try {
+                        segments.put(file, LocalDate.parse(name.substring(0, name.length() - suffix)));
+                    } catch (DateTimeParseException e) {
+                        continue;
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return Map.of();
+        }
+        return segments;
+    }
+
+    private static void addInRange(@NonNull Map<Long, HistorySample> target, @NonNull List<HistorySample> samples, long from, long to) {
+        for (final HistorySample sample : samples) {
+            if (sample.timestamp() >= from && sample.timestamp() <= to) {
+                target.putIfAbsent(sample.timestamp(), sample);
+            }
+        }
+    }
+
+    @NonNull
+    static LocalDate day(long timestamp) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(timestamp), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Computer;
+import hudson.util.HttpResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.kohsuke.stapler.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * Keeps the sampled agent history in memory and, if enabled, archives it to disk.
+ */
+final class HistoryRecorder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryRecorder.class);
+    private final NodeHistory history = new NodeHistory();
+    private final HistoryArchive archive = new HistoryArchive();
+
+    void record(long now, @NonNull Map<String, Computer> computers, int retentionHours, boolean archived) {
+        final Map<String, FleetSummary.Totals> samples = new HashMap<>();
+
+        for (final Map.Entry<String, Computer> computer : computers.entrySet()) {
+            samples.put(computer.getKey(), FleetSummary.Totals.from(computer.getValue()));
+        }
+        history.record(now, samples, NodeHistory.capacity(retentionHours));
+
+        if (archived) {
+            archive.add(now, samples);
+        }
+    }
+
+    boolean isArchiveDue(long now) {
+        return archive.isFlushDue(now);
+    }
+
+    void flushArchive(@NonNull Path directory, long now, int retentionDays, int compactionDays) {
+        try {
+            archive.flush(directory);
+            archive.maintain(directory, now, retentionDays, compactionDays);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to archive history to '{}'", directory, e);
+        }
+    }
+
+    @NonNull
+    HttpResponse historyResponse(@CheckForNull String node, @CheckForNull String from) {
+        if (node == null || node.isBlank()) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Missing node");
+        }
+
+        final long since;
+
+        try {
+            since = from == null ? 0L : Long.parseLong(from);
+        } catch (NumberFormatException e) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid time");
+        }
+
+        final byte[] payload = history.toJson(node, since);
+
+        if (payload == null) {
+            return HttpResponses.notFound();
+        }
+        return CorsHttpResponse.transientJson(new Snapshot(payload, history.getTimestamp()), NodeHistory.INTERVAL_MS);
+    }
+
+    @NonNull
+    HttpResponse archiveResponse(@NonNull Supplier<Path> directories, @CheckForNull String node, @CheckForNull String from,
+                                 @CheckForNull String to) {
+        if (node == null || node.isBlank()) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Missing node");
+        }
+
+        final long start;
+        final long end;
+
+        try {
+            start = from == null ? 0L : Long.parseLong(from);
+            end = to == null ? System.currentTimeMillis() : Long.parseLong(to);
+        } catch (NumberFormatException e) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid time");
+        }
+
+        final Path directory = directories.get();
+
+        try {
+            final List<HistorySample> samples = archive.read(directory, node, start, end);
+            return CorsHttpResponse.transientJson(new Snapshot(HistoryArchive.toJson(node, start, end, samples), System.currentTimeMillis()),
+                    NodeHistory.INTERVAL_MS);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read history from '{}'", directory, e);
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "History not available");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/*
+ * A segment is a sequence of blocks, each starting with a magic number and ending with a CRC32 of its contents. A block
+ * half-written by a crash ends the readable part of a segment, and appending truncates the segment there first.
+ * Segments are read through a FileChannel rather than memory-mapped, so compaction can replace them on any platform.
+ * Queries stream through a segment and decode only the blocks of the requested agent.
+ */
+final class HistorySegment {
+    private static final int BLOCK_MAGIC = 0x48534231;
+    private static final int BLOCK_HEADER_SIZE = Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+    private static final int MIN_SAMPLE_BITS = 5;
+
+    private HistorySegment() {
+    }
+
+    @NonNull
+    static List<Block> read(@NonNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scan(read(channel)).blocks();
+        }
+    }
+
+    @NonNull
+    static List<HistorySample> read(@NonNull Path file, @NonNull byte[] name, long from, long to) throws IOException {
+        final List<HistorySample> samples = new ArrayList<>();
+        final long size = Files.size(file);
+        final CRC32 crc = new CRC32();
+
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), crc))) {
+            while (in.readInt() == BLOCK_MAGIC) {
+                crc.reset();
+                final Header header = Header.read(in);
+
+                if (!header.isPlausible(size)) {
+                    break;
+                }
+
+                final boolean wanted = header.matches(name, from, to);
+                final byte[] payload = payload(in, header.length(), wanted);
+
+                if (!verify(in, crc)) {
+                    break;
+                }
+                if (wanted) {
+                    samples.addAll(GorillaCodec.decode(ByteBuffer.wrap(payload), header.count()));
+                }
+            }
+        } catch (EOFException e) {
+            return samples;
+        }
+        return samples;
+    }
+
+    static void append(@NonNull Path file, @NonNull Map<String, List<HistorySample>> agents) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final int validLength = scan(read(channel)).validLength();
+            channel.truncate(validLength);
+            channel.position(validLength);
+            write(channel, agents);
+        }
+    }
+
+    static void write(@NonNull Path file, @NonNull Map<String, List<HistorySample>> agents) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, agents);
+        }
+    }
+
+    private static void write(@NonNull FileChannel channel, @NonNull Map<String, List<HistorySample>> agents) throws IOException {
+        for (final Map.Entry<String, List<HistorySample>> agent : agents.entrySet()) {
+            final List<HistorySample> samples = agent.getValue();
+            final byte[] name = agent.getKey().getBytes(StandardCharsets.UTF_8);
+            final byte[] payload = GorillaCodec.encode(samples);
+            final ByteBuffer block = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + name.length + BLOCK_HEADER_SIZE
+                            + payload.length + Integer.BYTES)
+                    .putInt(BLOCK_MAGIC)
+                    .putShort((short) name.length)
+                    .put(name)
+                    .putInt(samples.size())
+                    .putLong(samples.getFirst().timestamp())
+                    .putLong(samples.getLast().timestamp())
+                    .putInt(payload.length)
+                    .put(payload);
+            block.putInt(checksum(block, Integer.BYTES, block.position())).flip();
+
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+        }
+    }
+
+    @NonNull
+    private static ByteBuffer read(@NonNull FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    /*
+     * Stops at the first block that is incomplete or fails its checks; everything from there on is treated as garbage.
+     */
+    @NonNull
+    private static Scan scan(@NonNull ByteBuffer buffer) {
+        final List<Block> blocks = new ArrayList<>();
+        int valid = 0;
+
+        while (buffer.remaining() >= Integer.BYTES + Short.BYTES && buffer.getInt() == BLOCK_MAGIC) {
+            final int start = buffer.position();
+            final int nameLength = Short.toUnsignedInt(buffer.getShort());
+
+            if (buffer.remaining() < nameLength + BLOCK_HEADER_SIZE) {
+                break;
+            }
+
+            final byte[] name = new byte[nameLength];
+            buffer.get(name);
+            final int count = buffer.getInt();
+            final long first = buffer.getLong();
+            final long last = buffer.getLong();
+            final int length = buffer.getInt();
+
+            if (length < 0 || buffer.remaining() < (long) length + Integer.BYTES || count < 0
+                    || count > (long) length * Byte.SIZE / MIN_SAMPLE_BITS) {
+                break;
+            }
+
+            final ByteBuffer payload = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+
+            if (buffer.getInt() != checksum(buffer, start, buffer.position() - Integer.BYTES)) {
+                break;
+            }
+            blocks.add(new Block(name, count, first, last, payload));
+            valid = buffer.position();
+        }
+        return new Scan(blocks, valid);
+    }
+
+    @NonNull
+    private static byte[] payload(@NonNull DataInputStream in, int length, boolean wanted) throws IOException {
+        if (wanted) {
+            final byte[] payload = new byte[length];
+            in.readFully(payload);
+            return payload;
+        }
+        in.skipNBytes(length);
+        return new byte[0];
+    }
+
+    private static boolean verify(@NonNull DataInputStream in, @NonNull CRC32 crc) throws IOException {
+        final int checksum = (int) crc.getValue();
+        return in.readInt() == checksum;
+    }
+
+    private static int checksum(@NonNull ByteBuffer buffer, int from, int to) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    record Block(@NonNull byte[] name, int count, long first, long last, @NonNull ByteBuffer payload) {
+
+        @NonNull
+        List<HistorySample> decode() throws IOException {
+            return GorillaCodec.decode(payload, count);
+        }
+    }
+
+    private record Header(@NonNull byte[] name, int count, long first, long last, int length) {
+
+        @NonNull
+        static Header read(@NonNull DataInputStream in) throws IOException {
+            final byte[] name = new byte[in.readUnsignedShort()];
+            in.readFully(name);
+            return new Header(name, in.readInt(), in.readLong(), in.readLong(), in.readInt());
+        }
+
+        boolean isPlausible(long size) {
+            return length >= 0 && length <= size && count >= 0 && count <= (long) length * Byte.SIZE / MIN_SAMPLE_BITS;
+        }
+
+        boolean matches(@NonNull byte[] agent, long from, long to) {
+            return Arrays.equals(name, agent) && first <= to && last >= from;
+        }
+    }
+
+    private record Scan(@NonNull List<Block> blocks, int validLength) {
+    }
+}
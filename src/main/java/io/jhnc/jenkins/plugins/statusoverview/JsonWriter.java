@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.ByteArrayOutputStream;
+
+/*
+ * Writes JSON directly into a byte buffer. Strings are escaped the same way as by Groovy's JsonBuilder (everything
+ * outside of printable ASCII as unicode escape), so the output is plain ASCII and identical to the former responses.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class JsonWriter {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_CAPACITY = 256;
+    private static final String[] ESCAPES = new String[128];
+    private final ByteArrayOutputStream out;
+    private boolean separatorRequired;
+
+    static {
+        for (char c = 0; c < ' '; c++) {
+            ESCAPES[c] = String.format("\\u%04x", (int) c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+        ESCAPES[0x7f] = "\\u007f";
+    }
+
+    JsonWriter() {
+        this(INITIAL_CAPACITY);
+    }
+
+    JsonWriter(int capacity) {
+        this.out = new ByteArrayOutputStream(Math.max(capacity, INITIAL_CAPACITY));
+    }
+
+    @NonNull
+    JsonWriter beginArray() {
+        return begin('[');
+    }
+
+    @NonNull
+    JsonWriter endArray() {
+        return end(']');
+    }
+
+    @NonNull
+    JsonWriter beginObject() {
+        return begin('{');
+    }
+
+    @NonNull
+    JsonWriter endObject() {
+        return end('}');
+    }
+
+    @NonNull
+    JsonWriter name(@NonNull String name) {
+        separator();
+        string(name);
+        out.write(':');
+        separatorRequired = false;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter field(@NonNull String name, @CheckForNull String value) {
+        name(name);
+
+        if (value == null) {
+            ascii("null");
+        } else {
+            string(value);
+        }
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter field(@NonNull String name, long value) {
+        name(name);
+        ascii(Long.toString(value));
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter field(@NonNull String name, boolean value) {
+        name(name);
+        ascii(Boolean.toString(value));
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter value(@NonNull String value) {
+        separator();
+        string(value);
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter value(long value) {
+        separator();
+        ascii(Long.toString(value));
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter value(boolean value) {
+        separator();
+        ascii(Boolean.toString(value));
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    JsonWriter raw(@NonNull byte[] json) {
+        separator();
+        out.writeBytes(json);
+        separatorRequired = true;
+        return this;
+    }
+
+    @NonNull
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    @NonNull
+    private JsonWriter begin(char c) {
+        separator();
+        out.write(c);
+        separatorRequired = false;
+        return this;
+    }
+
+    @NonNull
+    private JsonWriter end(char c) {
+        out.write(c);
+        separatorRequired = true;
+        return this;
+    }
+
+    private void separator() {
+        if (separatorRequired) {
+            out.write(',');
+        }
+    }
+
+    private void string(@NonNull String value) {
+        out.write('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if (c >= ESCAPES.length) {
+                unicode(c);
+            } else if (ESCAPES[c] == null) {
+                out.write(c);
+            } else {
+                ascii(ESCAPES[c]);
+            }
+        }
+        out.write('"');
+    }
+
+    private void unicode(char c) {
+        ascii("\\u");
+        out.write(HEX_DIGITS[c >> 12 & 0xf]);
+        out.write(HEX_DIGITS[c >> 8 & 0xf]);
+        out.write(HEX_DIGITS[c >> 4 & 0xf]);
+        out.write(HEX_DIGITS[c & 0xf]);
+    }
+
+    private void ascii(@NonNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            out.write(value.charAt(i));
+        }
+    }
+}
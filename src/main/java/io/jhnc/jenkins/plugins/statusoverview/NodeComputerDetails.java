@@ -41,12 +41,20 @@ import java.util.Objects;
 
 public class NodeComputerDetails {
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeComputerDetails.class);
-    private static final String PLACEHOLDER = "<unknown>";
+    static final String PLACEHOLDER = "<unknown>";
     private static final double BYTES_TO_GB_DIVISOR = 1024 * 1024 * 1024;
     private final Computer computer;
+    private final AgentInfoCache agentInfos;
+    private AgentInfo agentInfo;
+    private boolean agentInfoLoaded;
 
     public NodeComputerDetails(@NonNull Computer computer) {
+        this(computer, null);
+    }
+
+    NodeComputerDetails(@NonNull Computer computer, @CheckForNull AgentInfoCache agentInfos) {
         this.computer = Objects.requireNonNull(computer, "Computer must not be null");
+        this.agentInfos = agentInfos;
     }
 
     @NonNull
@@ -66,6 +74,11 @@ public class NodeComputerDetails {
 
     @NonNull
     public String getOperatingSystem() {
+        final AgentInfo info = getAgentInfo();
+
+        if (info != null && info.osName() != null) {
+            return info.osName() + " (" + info.osArch() + ")";
+        }
         return Objects.requireNonNullElse(getMonitorDataOrEmpty()
                 .getOrDefault("hudson.node_monitors.ArchitectureMonitor", PLACEHOLDER), PLACEHOLDER).toString();
     }
@@ -97,6 +110,13 @@ public class NodeComputerDetails {
 
     @NonNull
     public String getJavaVersion() {
+        final AgentInfo info = getAgentInfo();
+
+        if (info != null) {
+            return Objects.requireNonNullElse(info.runtimeName(), PLACEHOLDER) + " "
+                    + Objects.requireNonNullElse(info.runtimeVersion(), PLACEHOLDER);
+        }
+
         try {
             final Map<Object, Object> systemProperties = computer.getSystemProperties();
             return systemProperties.getOrDefault("java.runtime.name", PLACEHOLDER) + " "
@@ -119,6 +139,15 @@ public class NodeComputerDetails {
         return Jenkins.getVersion();
     }
 
+    @CheckForNull
+    private AgentInfo getAgentInfo() {
+        if (!agentInfoLoaded && agentInfos != null) {
+            agentInfo = agentInfos.get(computer);
+            agentInfoLoaded = true;
+        }
+        return agentInfo;
+    }
+
     private long bytesToGB(long bytes) {
         return Math.round(bytes / BYTES_TO_GB_DIVISOR);
     }
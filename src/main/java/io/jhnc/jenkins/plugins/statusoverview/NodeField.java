@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+enum NodeField {
+    NUM_EXECUTORS("numExecutors"),
+    MEMORY("memory"),
+    JAVA_VERSION("javaVersion"),
+    NAME("name"),
+    OPERATING_SYSTEM("operatingSystem"),
+    STATUS("status"),
+    CORE_VERSION("coreVersion");
+
+    static final Set<NodeField> AGENT = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(CORE_VERSION)));
+    static final Set<NodeField> MASTER = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(STATUS)));
+    private final String fieldName;
+
+    NodeField(@NonNull String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    @NonNull
+    String getFieldName() {
+        return fieldName;
+    }
+
+    @NonNull
+    static Set<NodeField> parse(@CheckForNull String fields, @NonNull Set<NodeField> available) {
+        if (fields == null || fields.isBlank()) {
+            return available;
+        }
+
+        final Set<NodeField> selected = EnumSet.noneOf(NodeField.class);
+
+        for (final String name : fields.split(",")) {
+            selected.add(byName(name.trim(), available));
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    @NonNull
+    private static NodeField byName(@NonNull String name, @NonNull Set<NodeField> available) {
+        for (final NodeField field : available) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + name + "'");
+    }
+}
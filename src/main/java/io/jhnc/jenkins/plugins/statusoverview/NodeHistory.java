@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Keeps the agent samples in primitive ring buffers sharing one timestamp ring, so each sample costs 9 bytes per agent
+ * (state, executors, busy executors and used memory in MiB).
+ */
+final class NodeHistory {
+    static final long INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final byte ABSENT = 0;
+    private static final byte OFFLINE = 1;
+    private static final byte ONLINE = 2;
+    private static final int MEMORY_SHIFT = 20;
+    private final Map<String, Series> series = new HashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private long[] timestamps = new long[0];
+    private long count;
+
+    static int capacity(int retentionHours) {
+        return (int) Math.max(1L, TimeUnit.HOURS.toMillis(retentionHours) / INTERVAL_MS);
+    }
+
+    void record(long timestamp, @NonNull Map<String, FleetSummary.Totals> samples, int capacity) {
+        lock.lock();
+        try {
+            if (capacity != timestamps.length) {
+                resize(capacity);
+            }
+
+            final int slot = (int) (count % capacity);
+            series.keySet().retainAll(samples.keySet());
+            timestamps[slot] = timestamp;
+
+            for (final Series entry : series.values()) {
+                entry.state[slot] = ABSENT;
+            }
+            for (final Map.Entry<String, FleetSummary.Totals> sample : samples.entrySet()) {
+                series.computeIfAbsent(sample.getKey(), name -> new Series(capacity)).set(slot, sample.getValue());
+            }
+            count++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getTimestamp() {
+        lock.lock();
+        try {
+            return count == 0 ? 0L : timestamps[(int) ((count - 1) % timestamps.length)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return series.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    @CheckForNull
+    byte[] toJson(@NonNull String name, long from) {
+        lock.lock();
+        try {
+            final Series entry = series.get(name);
+
+            if (entry == null) {
+                return null;
+            }
+
+            final JsonWriter times = new JsonWriter().beginArray();
+            final JsonWriter online = new JsonWriter().beginArray();
+            final JsonWriter executors = new JsonWriter().beginArray();
+            final JsonWriter busyExecutors = new JsonWriter().beginArray();
+            final JsonWriter usedMemory = new JsonWriter().beginArray();
+
+            for (long i = Math.max(0L, count - timestamps.length); i < count; i++) {
+                final int slot = (int) (i % timestamps.length);
+
+                if (entry.state[slot] != ABSENT && timestamps[slot] >= from) {
+                    times.value(timestamps[slot]);
+                    online.value(entry.state[slot] == ONLINE);
+                    executors.value(entry.executors[slot]);
+                    busyExecutors.value(entry.busyExecutors[slot]);
+                    usedMemory.value((long) entry.usedMemory[slot] << MEMORY_SHIFT);
+                }
+            }
+
+            return new JsonWriter().beginObject()
+                    .field("node", name)
+                    .field("interval", TimeUnit.MILLISECONDS.toSeconds(INTERVAL_MS))
+                    .name("timestamps").raw(times.endArray().toByteArray())
+                    .name("online").raw(online.endArray().toByteArray())
+                    .name("executors").raw(executors.endArray().toByteArray())
+                    .name("busyExecutors").raw(busyExecutors.endArray().toByteArray())
+                    .name("usedMemory").raw(usedMemory.endArray().toByteArray())
+                    .endObject()
+                    .toByteArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidArrayLoops")
+    private void resize(int capacity) {
+        final long[] resized = new long[capacity];
+        final long first = Math.max(0L, count - Math.min(timestamps.length, capacity));
+
+        for (long i = first; i < count; i++) {
+            resized[(int) (i % capacity)] = timestamps[(int) (i % timestamps.length)];
+        }
+        for (final Series entry : series.values()) {
+            entry.resize(first, count, timestamps.length, capacity);
+        }
+        timestamps = resized;
+    }
+
+    private static final class Series {
+        private byte[] state;
+        private short[] executors;
+        private short[] busyExecutors;
+        private int[] usedMemory;
+
+        Series(int capacity) {
+            state = new byte[capacity];
+            executors = new short[capacity];
+            busyExecutors = new short[capacity];
+            usedMemory = new int[capacity];
+        }
+
+        void set(int slot, @NonNull FleetSummary.Totals totals) {
+            state[slot] = totals.online() ? ONLINE : OFFLINE;
+            executors[slot] = (short) Math.min(Short.MAX_VALUE, totals.executors());
+            busyExecutors[slot] = (short) Math.min(Short.MAX_VALUE, totals.busyExecutors());
+            usedMemory[slot] = (int) Math.min(Integer.MAX_VALUE, totals.usedMemory() >> MEMORY_SHIFT);
+        }
+
+        void resize(long first, long count, int oldCapacity, int capacity) {
+            final Series resized = new Series(capacity);
+
+            for (long i = first; i < count; i++) {
+                final int from = (int) (i % oldCapacity);
+                final int to = (int) (i % capacity);
+                resized.state[to] = state[from];
+                resized.executors[to] = executors[from];
+                resized.busyExecutors[to] = busyExecutors[from];
+                resized.usedMemory[to] = usedMemory[from];
+            }
+            state = resized.state;
+            executors = resized.executors;
+            busyExecutors = resized.busyExecutors;
+            usedMemory = resized.usedMemory;
+        }
+    }
+}
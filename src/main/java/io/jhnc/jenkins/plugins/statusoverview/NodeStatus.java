@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Collection;
+import java.util.Set;
+
+record NodeStatus(@CheckForNull Integer numExecutors, @CheckForNull String memory, @CheckForNull String javaVersion,
+                  @CheckForNull String name, @CheckForNull String operatingSystem, @CheckForNull String status,
+                  @CheckForNull String coreVersion) {
+    static final int JSON_SIZE = 192;
+
+    @NonNull
+    static NodeStatus from(@NonNull NodeComputerDetails details, @NonNull Set<NodeField> fields) {
+        final String name = fields.contains(NodeField.NAME) ? details.getHostname() : null;
+        final String operatingSystem = fields.contains(NodeField.OPERATING_SYSTEM) ? details.getOperatingSystem() : null;
+        final Integer numExecutors = fields.contains(NodeField.NUM_EXECUTORS) ? details.getNumExecutors() : null;
+        final String memory = fields.contains(NodeField.MEMORY) ? details.getMemoryUtilization() : null;
+        final String javaVersion = fields.contains(NodeField.JAVA_VERSION) ? details.getJavaVersion() : null;
+        final String status = fields.contains(NodeField.STATUS) ? status(details) : null;
+        final String coreVersion = fields.contains(NodeField.CORE_VERSION) ? details.getCoreVersion() : null;
+        return new NodeStatus(numExecutors, memory, javaVersion, name, operatingSystem, status, coreVersion);
+    }
+
+    @NonNull
+    static NodeStatus unavailable(@NonNull String name, int numExecutors, @NonNull String reason, @NonNull Set<NodeField> fields) {
+        return new NodeStatus(fields.contains(NodeField.NUM_EXECUTORS) ? numExecutors : null,
+                unknown(NodeField.MEMORY, fields),
+                unknown(NodeField.JAVA_VERSION, fields),
+                fields.contains(NodeField.NAME) ? name : null,
+                unknown(NodeField.OPERATING_SYSTEM, fields),
+                fields.contains(NodeField.STATUS) ? "Unavailable (" + reason + ")" : null,
+                unknown(NodeField.CORE_VERSION, fields));
+    }
+
+    @NonNull
+    static byte[] toJson(@NonNull Collection<NodeStatus> nodes) {
+        final JsonWriter writer = new JsonWriter(nodes.size() * JSON_SIZE).beginArray();
+
+        for (final NodeStatus node : nodes) {
+            node.writeTo(writer);
+        }
+        return writer.endArray().toByteArray();
+    }
+
+    void writeTo(@NonNull JsonWriter writer) {
+        writeTo(writer, null);
+    }
+
+    void writeTo(@NonNull JsonWriter writer, @CheckForNull String node) {
+        writer.beginObject();
+
+        if (node != null) {
+            writer.field("node", node);
+        }
+
+        for (final NodeField field : NodeField.values()) {
+            final String value = get(field);
+
+            if (value != null) {
+                writer.field(field.getFieldName(), value);
+            }
+        }
+        writer.endObject();
+    }
+
+    @CheckForNull
+    String get(@NonNull NodeField field) {
+        return switch (field) {
+            case NUM_EXECUTORS -> numExecutors == null ? null : numExecutors.toString();
+            case MEMORY -> memory;
+            case JAVA_VERSION -> javaVersion;
+            case NAME -> name;
+            case OPERATING_SYSTEM -> operatingSystem;
+            case STATUS -> status;
+            case CORE_VERSION -> coreVersion;
+        };
+    }
+
+    @CheckForNull
+    private static String unknown(@NonNull NodeField field, @NonNull Set<NodeField> fields) {
+        return fields.contains(field) ? NodeComputerDetails.PLACEHOLDER : null;
+    }
+
+    @NonNull
+    private static String status(@NonNull NodeComputerDetails details) {
+        return details.isOffline() ? "Offline (" + details.getOfflineCauseReason() + ")" : "Online";
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Samples not yet written to the archive, grouped by agent. They leave once the segment of their day is written.
+ */
+final class PendingHistory {
+    private final Map<String, List<HistorySample>> samples = new HashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private long block = -1L;
+
+    void add(long timestamp, @NonNull Map<String, FleetSummary.Totals> totals) {
+        lock.lock();
+        try {
+            for (final Map.Entry<String, FleetSummary.Totals> sample : totals.entrySet()) {
+                samples.computeIfAbsent(sample.getKey(), name -> new ArrayList<>()).add(HistorySample.from(timestamp, sample.getValue()));
+            }
+            if (block < 0) {
+                block = timestamp / HistoryArchive.BLOCK_MS;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isFlushDue(long now) {
+        lock.lock();
+        try {
+            return block >= 0L && now / HistoryArchive.BLOCK_MS > block;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    List<HistorySample> get(@NonNull String name) {
+        lock.lock();
+        try {
+            return List.copyOf(samples.getOrDefault(name, List.of()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    Map<LocalDate, Map<String, List<HistorySample>>> days() {
+        final Map<LocalDate, Map<String, List<HistorySample>>> days = new TreeMap<>();
+
+        lock.lock();
+        try {
+            for (final Map.Entry<String, List<HistorySample>> agent : samples.entrySet()) {
+                for (final HistorySample sample : agent.getValue()) {
+                    days.computeIfAbsent(HistoryArchive.day(sample.timestamp()), day -> new TreeMap<>())
+                            .computeIfAbsent(agent.getKey(), name -> new ArrayList<>())
+                            .add(sample);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return days;
+    }
+
+    void written(@NonNull Map<String, List<HistorySample>> agents) {
+        lock.lock();
+        try {
+            for (final Map.Entry<String, List<HistorySample>> agent : agents.entrySet()) {
+                final List<HistorySample> remaining = samples.get(agent.getKey());
+                remaining.removeAll(agent.getValue());
+
+                if (remaining.isEmpty()) {
+                    samples.remove(agent.getKey());
+                }
+            }
+            block = samples.values().stream()
+                    .mapToLong(remaining -> remaining.getFirst().timestamp() / HistoryArchive.BLOCK_MS)
+                    .min()
+                    .orElse(-1L);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
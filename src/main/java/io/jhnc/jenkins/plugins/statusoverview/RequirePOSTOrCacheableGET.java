@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.csrf.CrumbIssuer;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.kohsuke.stapler.interceptor.Interceptor;
+import org.kohsuke.stapler.interceptor.InterceptorAnnotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+/*
+ * Like @RequirePOST, but also accepts GET requests carrying a valid crumb if cacheable GET requests are enabled.
+ * Jenkins only checks crumbs of POST requests, so GET requests are checked here. Sub-paths listed in paths() always
+ * accept GET, for clients such as EventSource that cannot send a POST.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@InterceptorAnnotation(RequirePOSTOrCacheableGET.Processor.class)
+public @interface RequirePOSTOrCacheableGET {
+    String[] paths() default {};
+
+    class Processor extends Interceptor {
+        private static final String POST = "POST";
+        private static final String GET = "GET";
+
+        @Override
+        public Object invoke(StaplerRequest2 request, StaplerResponse2 response, Object instance, Object[] arguments)
+                throws IllegalAccessException, InvocationTargetException, ServletException {
+            if (!POST.equals(request.getMethod()) && !isGetPath(request) && !isCacheableGet(request)) {
+                throw new InvocationTargetException(HttpResponses.errorWithoutStack(HttpServletResponse.SC_METHOD_NOT_ALLOWED,
+                        "POST or a cacheable GET request with a valid crumb is required"));
+            }
+            return target.invoke(request, response, instance, arguments);
+        }
+
+        @NonNull
+        ConfigurationSnapshot getConfiguration() {
+            return ConfigurationSnapshot.get();
+        }
+
+        @CheckForNull
+        protected CrumbIssuer getCrumbIssuer() {
+            return Jenkins.get().getCrumbIssuer();
+        }
+
+        private boolean isGetPath(@NonNull StaplerRequest2 request) {
+            final RequirePOSTOrCacheableGET annotation = target.getAnnotation(RequirePOSTOrCacheableGET.class);
+            return GET.equals(request.getMethod()) && annotation != null
+                    && Arrays.asList(annotation.paths()).contains(request.getRestOfPath());
+        }
+
+        private boolean isCacheableGet(@NonNull StaplerRequest2 request) {
+            if (!GET.equals(request.getMethod()) || !getConfiguration().isCacheableGet()) {
+                return false;
+            }
+
+            final CrumbIssuer issuer = getCrumbIssuer();
+
+            if (issuer == null) {
+                return true;
+            }
+
+            final String field = issuer.getCrumbRequestField();
+            final String header = request.getHeader(field);
+            final String crumb = header == null ? request.getParameter(field) : header;
+            return crumb != null && issuer.validateCrumb(request, issuer.getDescriptor().getCrumbSalt(), crumb);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+@SuppressWarnings("PMD.DataClass")
+final class Snapshot {
+    private static final int ETAG_BYTES = 16;
+    private final byte[] payload;
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile byte[] compressedPayload;
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile String etag;
+    private final long timestamp;
+    private final NavigableMap<String, NodeStatus> nodes;
+    private final long generation;
+    private final boolean stale;
+
+    Snapshot(@NonNull String payload, long timestamp) {
+        this(Objects.requireNonNull(payload, "Payload must not be null").getBytes(StandardCharsets.UTF_8), timestamp);
+    }
+
+    Snapshot(@NonNull byte[] payload, long timestamp) {
+        this(payload, timestamp, null, 0L);
+    }
+
+    Snapshot(@NonNull byte[] payload, long timestamp, @CheckForNull Map<String, NodeStatus> nodes, long generation) {
+        this(payload, timestamp, nodes, generation, false);
+    }
+
+    Snapshot(@NonNull byte[] payload, long timestamp, @CheckForNull Map<String, NodeStatus> nodes, long generation,
+             boolean stale) {
+        this(payload, nodes == null ? Collections.emptyNavigableMap() : new TreeMap<>(nodes), timestamp, generation, stale);
+    }
+
+    private Snapshot(@NonNull byte[] payload, @NonNull NavigableMap<String, NodeStatus> nodes, long timestamp, long generation,
+                     boolean stale) {
+        this.payload = Objects.requireNonNull(payload, "Payload must not be null");
+        this.timestamp = timestamp;
+        this.nodes = Collections.unmodifiableNavigableMap(nodes);
+        this.generation = generation;
+        this.stale = stale;
+    }
+
+    /*
+     * Takes over the nodes without copying them; the caller must not modify them afterwards.
+     */
+    @NonNull
+    static Snapshot ofNodes(@NonNull byte[] payload, long timestamp, @NonNull NavigableMap<String, NodeStatus> nodes,
+                            long generation, boolean stale) {
+        return new Snapshot(payload, nodes, timestamp, generation, stale);
+    }
+
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    @NonNull
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /*
+     * The compressed copy and the digest are only computed when a cached snapshot is served for the first time;
+     * concurrent first requests may both compute them, with the same result.
+     */
+    @NonNull
+    public byte[] getCompressedPayload() {
+        byte[] compressed = compressedPayload;
+
+        if (compressed == null) {
+            compressed = gzip(payload);
+            compressedPayload = compressed;
+        }
+        return compressed;
+    }
+
+    @NonNull
+    public String getETag() {
+        return '"' + digest() + '"';
+    }
+
+    @NonNull
+    public String getCompressedETag() {
+        return '"' + digest() + "-gzip\"";
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    @NonNull
+    public NavigableMap<String, NodeStatus> getNodes() {
+        return nodes;
+    }
+
+    @NonNull
+    private String digest() {
+        String digest = etag;
+
+        if (digest == null) {
+            digest = hash(payload);
+            etag = digest;
+        }
+        return digest;
+    }
+
+    @NonNull
+    private static String hash(@NonNull byte[] data) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @NonNull
+    private static byte[] gzip(@NonNull byte[] data) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 8));
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress snapshot", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * Snapshots are refreshed in the background while they are requested and expire once they are idle.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class SnapshotCache {
+    private static final ExecutorService SNAPSHOT_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("status-overview-snapshot-", 0).factory());
+    private final AsyncLoadingCache<SnapshotKey, Snapshot> cache;
+    private final Map<SnapshotKey, Long> lastRequested = new ConcurrentHashMap<>();
+    private final long idleTimeoutMs;
+
+    SnapshotCache(@NonNull Function<SnapshotKey, Snapshot> loader, long refreshIntervalMs, long idleTimeoutMs) {
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshIntervalMs, TimeUnit.MILLISECONDS)
+                .expireAfterAccess(idleTimeoutMs, TimeUnit.MILLISECONDS)
+                .executor(SNAPSHOT_EXECUTOR)
+                .recordStats()
+                .buildAsync(loader::apply);
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    @CheckForNull
+    Snapshot get(@NonNull SnapshotKey key) {
+        lastRequested.put(key, System.currentTimeMillis());
+        final Snapshot snapshot = cache.get(key).join();
+
+        if (snapshot != null && snapshot.isStale()) {
+            cache.synchronous().refresh(key);
+        }
+        return snapshot;
+    }
+
+    @CheckForNull
+    Snapshot getIfLoaded(@NonNull SnapshotKey key) {
+        final CompletableFuture<Snapshot> current = cache.getIfPresent(key);
+
+        if (current != null && current.isDone() && !current.isCompletedExceptionally()) {
+            return current.join();
+        }
+        return null;
+    }
+
+    void put(@NonNull SnapshotKey key, @NonNull Snapshot snapshot) {
+        cache.put(key, CompletableFuture.completedFuture(snapshot));
+    }
+
+    boolean restore(@NonNull SnapshotKey key, @NonNull Snapshot snapshot) {
+        if (cache.asMap().putIfAbsent(key, CompletableFuture.completedFuture(snapshot)) != null) {
+            return false;
+        }
+        lastRequested.putIfAbsent(key, System.currentTimeMillis());
+        return true;
+    }
+
+    @NonNull
+    List<SnapshotKey> loadedKeys(@NonNull String type) {
+        return cache.asMap().entrySet().stream()
+                .filter(entry -> type.equals(entry.getKey().type()) && entry.getValue().isDone())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @NonNull
+    CompletableFuture<Void> refreshRequested() {
+        final long idleSince = System.currentTimeMillis() - idleTimeoutMs;
+        lastRequested.values().removeIf(requested -> requested < idleSince);
+
+        return CompletableFuture.allOf(lastRequested.keySet().stream()
+                .map(key -> cache.synchronous().refresh(key))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @NonNull
+    CompletableFuture<Void> runAsync(@NonNull Runnable task) {
+        return CompletableFuture.runAsync(task, SNAPSHOT_EXECUTOR);
+    }
+
+    @NonNull
+    CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    long size() {
+        return cache.synchronous().estimatedSize();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginWrapper;
+import hudson.model.Computer;
+import hudson.model.Node;
+import hudson.security.ACLContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Collects the snapshot payloads through the action's hooks; agents are collected on the agent collector.
+ */
+final class SnapshotCollector {
+    private static final int PLUGIN_JSON_SIZE = 96;
+    private final StatusOverviewAction action;
+    private final StatusOverviewMetrics metrics = new StatusOverviewMetrics();
+    private final AgentInfoCache agentInfos = new AgentInfoCache();
+    private final AgentCollector agentCollector;
+
+    SnapshotCollector(@NonNull StatusOverviewAction action, long idleTimeoutMs) {
+        this.action = action;
+        this.agentCollector = new AgentCollector(metrics, idleTimeoutMs);
+    }
+
+    @NonNull
+    StatusOverviewMetrics getMetrics() {
+        return metrics;
+    }
+
+    @NonNull
+    AgentInfoCache getAgentInfos() {
+        return agentInfos;
+    }
+
+    @NonNull
+    Map<String, Computer> computers() {
+        final Map<String, Computer> computers = new LinkedHashMap<>();
+
+        for (final Node node : action.getJenkins().getNodes()) {
+            final Computer computer = node == null ? null : action.getComputer(node);
+
+            if (computer != null) {
+                computers.put(node.getNodeName(), computer);
+            }
+        }
+        return computers;
+    }
+
+    @NonNull
+    Map<String, Computer> computers(@NonNull Set<String> names) {
+        final Map<String, Computer> computers = new HashMap<>();
+
+        for (final String name : names) {
+            final Computer computer = computer(name);
+
+            if (computer != null) {
+                computers.put(name, computer);
+            }
+        }
+        return computers;
+    }
+
+    @CheckForNull
+    Computer computer(@NonNull String name) {
+        final Node node = action.getJenkins().getNode(name);
+        return node == null ? null : action.getComputer(node);
+    }
+
+    @NonNull
+    byte[] plugins() {
+        final List<PluginWrapper> plugins = action.getJenkins().getPluginManager().getPlugins();
+        final long start = System.nanoTime();
+        final JsonWriter writer = new JsonWriter(plugins.size() * PLUGIN_JSON_SIZE).beginArray();
+
+        for (final PluginWrapper plugin : plugins) {
+            writer.beginObject()
+                    .field("displayName", plugin.getDisplayName())
+                    .field("name", plugin.getShortName())
+                    .field("version", plugin.getVersion())
+                    .endObject();
+        }
+
+        final byte[] payload = writer.endArray().toByteArray();
+        metrics.recordSerialization(SnapshotKey.PLUGINS, System.nanoTime() - start);
+        return payload;
+    }
+
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    @CheckForNull
+    byte[] master(@NonNull Set<NodeField> fields) {
+        final Computer master = action.getJenkins().getComputers()[0];
+
+        if (master != null) {
+            return toJson(SnapshotKey.MASTER, List.of(NodeStatus.from(action.getNodeDetails(master), fields)));
+        }
+        return null;
+    }
+
+    @NonNull
+    byte[] toJson(@NonNull String endpoint, @NonNull Collection<NodeStatus> nodes) {
+        final long start = System.nanoTime();
+        final byte[] payload = NodeStatus.toJson(nodes);
+        metrics.recordSerialization(endpoint, System.nanoTime() - start);
+        return payload;
+    }
+
+    /*
+     * Agent details are fetched lazily by the next collection, which is bounded by the agent timeout.
+     */
+    void agentConnected(@NonNull Computer computer) {
+        agentCollector.reset(computer.getName());
+        agentInfos.drop(computer);
+    }
+
+    @NonNull
+    Map<String, NodeStatus> agents(@NonNull Map<String, Computer> computers, @NonNull Set<NodeField> fields) {
+        if (computers.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        return agentCollector.collect(computers, fields, AgentCollector.Limits.from(action.getConfiguration()), this::agent);
+    }
+
+    @NonNull
+    private NodeStatus agent(@NonNull Computer computer, @NonNull Set<NodeField> fields) {
+        final long start = System.nanoTime();
+
+        try (ACLContext ignored = action.changeContext()) {
+            return NodeStatus.from(action.getNodeDetails(computer), fields);
+        } finally {
+            metrics.recordAgentCall(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Map;
+import java.util.Set;
+
+record SnapshotKey(@NonNull String type, @NonNull Set<NodeField> fields) {
+    static final String PLUGINS = "plugins";
+    static final String AGENTS = "agents";
+    static final String MASTER = "master";
+    static final String ALL = "all";
+    static final SnapshotKey ALL_AGENTS = new SnapshotKey(AGENTS, NodeField.AGENT);
+    static final SnapshotKey ALL_SECTIONS = new SnapshotKey(ALL, Set.of());
+    static final SnapshotKey PLUGINS_KEY = new SnapshotKey(PLUGINS, Set.of());
+    static final SnapshotKey MASTER_KEY = new SnapshotKey(MASTER, NodeField.MASTER);
+    static final Map<String, SnapshotKey> PERSISTED = Map.of(AGENTS, ALL_AGENTS, MASTER, MASTER_KEY, PLUGINS, PLUGINS_KEY);
+
+    @CheckForNull
+    static SnapshotKey parse(@NonNull String type, @CheckForNull String fields, @NonNull Set<NodeField> available) {
+        try {
+            return new SnapshotKey(type, NodeField.parse(fields, available));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
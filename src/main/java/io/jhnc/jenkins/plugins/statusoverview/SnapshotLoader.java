@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.ACLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Agent snapshots are put into the cache while the lock is held, together with recording them in the change log.
+ * Loads publish their result themselves, so a refresh result Caffeine discards has already been superseded.
+ * Agent events are coalesced by the update queue and patch only the affected entries.
+ */
+final class SnapshotLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotLoader.class);
+    private final Lock lock = new ReentrantLock();
+    private final AgentChangeLog changes = new AgentChangeLog();
+    private final AtomicReference<Sections> sections = new AtomicReference<>();
+    private final StatusOverviewAction action;
+    private final StatusOverviewMetrics metrics;
+    private final SnapshotCollector collector;
+    private final SnapshotCache cache;
+    private final SnapshotPersistence persistence;
+    private final AgentUpdateQueue updates;
+
+    SnapshotLoader(@NonNull StatusOverviewAction action, @NonNull SnapshotCollector collector, long refreshIntervalMs,
+                   long idleTimeoutMs) {
+        this.action = action;
+        this.metrics = collector.getMetrics();
+        this.collector = collector;
+        this.cache = new SnapshotCache(this::load, refreshIntervalMs, idleTimeoutMs);
+        this.persistence = new SnapshotPersistence(cache, changes);
+        this.updates = new AgentUpdateQueue(cache::runAsync, this::update);
+    }
+
+    @NonNull
+    SnapshotCache getCache() {
+        return cache;
+    }
+
+    @NonNull
+    AgentChangeLog getChanges() {
+        return changes;
+    }
+
+    @NonNull
+    SnapshotPersistence getPersistence() {
+        return persistence;
+    }
+
+    @NonNull
+    CompletableFuture<Void> update(@NonNull String name) {
+        if (cache.loadedKeys(SnapshotKey.AGENTS).isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return updates.add(name);
+    }
+
+    @CheckForNull
+    private Snapshot load(@NonNull SnapshotKey key) {
+        final long start = System.nanoTime();
+        final Snapshot snapshot = collect(key);
+        metrics.recordCollection(key.type(), System.nanoTime() - start);
+
+        if (snapshot != null) {
+            metrics.recordPayload(key.type(), snapshot.getPayload().length);
+        }
+        return snapshot;
+    }
+
+    @CheckForNull
+    private Snapshot collect(@NonNull SnapshotKey key) {
+        try (ACLContext ignored = action.changeContext()) {
+            return switch (key.type()) {
+                case SnapshotKey.PLUGINS -> new Snapshot(collector.plugins(), System.currentTimeMillis());
+                case SnapshotKey.AGENTS -> collectAgents(key);
+                case SnapshotKey.MASTER -> {
+                    final byte[] payload = collector.master(key.fields());
+                    yield payload == null ? null : new Snapshot(payload, System.currentTimeMillis());
+                }
+                case SnapshotKey.ALL -> collectAll();
+                default -> throw new IllegalArgumentException("Unknown snapshot '" + key + "'");
+            };
+        }
+    }
+
+    @NonNull
+    private Snapshot collectAgents(@NonNull SnapshotKey key) {
+        final long started = updates.beginCollection();
+
+        try {
+            final Map<String, NodeStatus> entries = collector.agents(collector.computers(), key.fields());
+
+            lock.lock();
+            try {
+                return publish(key, AgentPatch.merge(entries, cache.getIfLoaded(key), updates.updatedSince(started)), System.currentTimeMillis());
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            updates.endCollection(started);
+        }
+    }
+
+    @NonNull
+    private Snapshot collectAll() {
+        final long started = updates.beginCollection();
+
+        try {
+            final byte[] master = collector.master(NodeField.MASTER);
+            final Map<String, NodeStatus> entries = collector.agents(collector.computers(), NodeField.AGENT);
+            final byte[] plugins = collector.plugins();
+            final long timestamp = System.currentTimeMillis();
+
+            lock.lock();
+            try {
+                final Snapshot agents = publish(SnapshotKey.ALL_AGENTS, AgentPatch.merge(entries, cache.getIfLoaded(SnapshotKey.ALL_AGENTS),
+                        updates.updatedSince(started)), timestamp);
+                final Sections collected = new Sections(master, plugins);
+                sections.set(collected);
+                return combine(collected, agents, timestamp);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            updates.endCollection(started);
+        }
+    }
+
+    private void update(@NonNull Set<String> names) {
+
+        try (ACLContext ignored = action.changeContext()) {
+            for (final SnapshotKey key : cache.loadedKeys(SnapshotKey.AGENTS)) {
+                patch(key, names, collector.agents(collector.computers(names), key.fields()));
+            }
+        }
+        LOGGER.debug("Agents {} updated", names);
+    }
+
+    private void patch(@NonNull SnapshotKey key, @NonNull Set<String> names, @NonNull Map<String, NodeStatus> entries) {
+        lock.lock();
+        try {
+            final Snapshot snapshot = cache.getIfLoaded(key);
+            final AgentPatch patch = snapshot == null ? null : AgentPatch.apply(snapshot, names, entries);
+
+            if (patch != null && !patch.isEmpty()) {
+                final long generation = SnapshotKey.ALL_AGENTS.equals(key) ? changes.record(patch.changed(), patch.removed()) : 0L;
+                final Snapshot updated = Snapshot.ofNodes(collector.toJson(SnapshotKey.AGENTS, patch.nodes().values()),
+                        snapshot.getTimestamp(), patch.nodes(), generation, snapshot.isStale());
+                cache.put(key, updated);
+
+                if (SnapshotKey.ALL_AGENTS.equals(key)) {
+                    updateAll(updated);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    private Snapshot publish(@NonNull SnapshotKey key, @NonNull NavigableMap<String, NodeStatus> nodes, long timestamp) {
+        final long generation = SnapshotKey.ALL_AGENTS.equals(key) ? changes.record(nodes) : 0L;
+        final Snapshot snapshot = Snapshot.ofNodes(collector.toJson(SnapshotKey.AGENTS, nodes.values()), timestamp, nodes,
+                generation, false);
+        cache.put(key, snapshot);
+        return snapshot;
+    }
+
+    private void updateAll(@NonNull Snapshot agents) {
+        final Sections collected = sections.get();
+        final Snapshot snapshot = cache.getIfLoaded(SnapshotKey.ALL_SECTIONS);
+
+        if (collected != null && snapshot != null) {
+            cache.put(SnapshotKey.ALL_SECTIONS, combine(collected, agents, snapshot.getTimestamp()));
+        }
+    }
+
+    @NonNull
+    private static Snapshot combine(@NonNull Sections collected, @NonNull Snapshot agents, long timestamp) {
+        final JsonWriter writer = new JsonWriter(agents.getPayload().length + collected.size())
+                .beginObject()
+                .field("generation", agents.getGeneration());
+
+        if (collected.master() == null) {
+            writer.field(SnapshotKey.MASTER, (String) null);
+        } else {
+            writer.name(SnapshotKey.MASTER).raw(collected.master());
+        }
+        writer.name(SnapshotKey.AGENTS).raw(agents.getPayload()).name(SnapshotKey.PLUGINS).raw(collected.plugins()).endObject();
+        return new Snapshot(writer.toByteArray(), timestamp, null, agents.getGeneration());
+    }
+
+    private record Sections(@CheckForNull byte[] master, @NonNull byte[] plugins) {
+        int size() {
+            return (master == null ? 0 : master.length) + plugins.length + 64;
+        }
+    }
+}
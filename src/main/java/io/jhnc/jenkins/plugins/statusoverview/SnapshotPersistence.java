@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * Saves the cached snapshots at most every persist interval and puts them back into the cache on startup, where they
+ * are served as stale until their first refresh.
+ */
+final class SnapshotPersistence {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotPersistence.class);
+    private static final long PERSIST_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+    private final AtomicLong lastPersisted = new AtomicLong(System.currentTimeMillis());
+    private final SnapshotCache cache;
+    private final AgentChangeLog changes;
+
+    SnapshotPersistence(@NonNull SnapshotCache cache, @NonNull AgentChangeLog changes) {
+        this.cache = cache;
+        this.changes = changes;
+    }
+
+    void persist(@NonNull Supplier<Path> files, long now) {
+        final long last = lastPersisted.get();
+
+        if (now - last < PERSIST_INTERVAL_MS || !lastPersisted.compareAndSet(last, now)) {
+            return;
+        }
+
+        final Map<String, Snapshot> snapshots = new HashMap<>();
+
+        for (final Map.Entry<String, SnapshotKey> entry : SnapshotKey.PERSISTED.entrySet()) {
+            final Snapshot snapshot = cache.getIfLoaded(entry.getValue());
+
+            if (snapshot != null && !snapshot.isStale()) {
+                snapshots.put(entry.getKey(), snapshot);
+            }
+        }
+
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        final Path file = files.get();
+
+        try {
+            SnapshotStore.write(file, snapshots);
+            LOGGER.debug("Persisted {} snapshots to '{}'", snapshots.size(), file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to persist snapshots to '{}'", file, e);
+        }
+    }
+
+    void restore(@NonNull Path file) {
+        final Map<String, Snapshot> snapshots;
+
+        try {
+            snapshots = SnapshotStore.read(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to restore snapshots from '{}'", file, e);
+            return;
+        }
+
+        for (final Map.Entry<String, Snapshot> entry : snapshots.entrySet()) {
+            final SnapshotKey key = SnapshotKey.PERSISTED.get(entry.getKey());
+
+            if (key != null && cache.restore(key, entry.getValue()) && key.equals(SnapshotKey.ALL_AGENTS)) {
+                changes.restore(entry.getValue().getNodes(), entry.getValue().getGeneration());
+            }
+        }
+        LOGGER.debug("Restored {} snapshots from '{}'", snapshots.size(), file);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+final class SnapshotStore {
+    private static final int MAGIC = 0x534f5653;
+    private static final int VERSION = 1;
+
+    private SnapshotStore() {
+    }
+
+    static void write(@NonNull Path file, @NonNull Map<String, Snapshot> snapshots) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(snapshots.size());
+
+                for (final Map.Entry<String, Snapshot> entry : snapshots.entrySet()) {
+                    writeSnapshot(out, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @NonNull
+    static Map<String, Snapshot> read(@NonNull Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported snapshot file '" + file + "'");
+            }
+
+            final int count = in.readInt();
+            final Map<String, Snapshot> snapshots = new HashMap<>();
+
+            for (int i = 0; i < count; i++) {
+                final String type = in.readUTF();
+                snapshots.put(type, readSnapshot(in));
+            }
+            return snapshots;
+        } catch (NoSuchFileException e) {
+            return Map.of();
+        }
+    }
+
+    private static void writeSnapshot(@NonNull DataOutputStream out, @NonNull String type, @NonNull Snapshot snapshot)
+            throws IOException {
+        out.writeUTF(type);
+        out.writeLong(snapshot.getTimestamp());
+        out.writeLong(snapshot.getGeneration());
+        out.writeInt(snapshot.getPayload().length);
+        out.write(snapshot.getPayload());
+        out.writeInt(snapshot.getNodes().size());
+
+        for (final Map.Entry<String, NodeStatus> node : snapshot.getNodes().entrySet()) {
+            final NodeStatus status = node.getValue();
+            out.writeUTF(node.getKey());
+            out.writeInt(status.numExecutors() == null ? -1 : status.numExecutors());
+            writeString(out, status.memory());
+            writeString(out, status.javaVersion());
+            writeString(out, status.name());
+            writeString(out, status.operatingSystem());
+            writeString(out, status.status());
+            writeString(out, status.coreVersion());
+        }
+    }
+
+    @NonNull
+    private static Snapshot readSnapshot(@NonNull DataInputStream in) throws IOException {
+        final long timestamp = in.readLong();
+        final long generation = in.readLong();
+        final byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+
+        final int count = in.readInt();
+        final Map<String, NodeStatus> nodes = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            final String name = in.readUTF();
+            final int numExecutors = in.readInt();
+            nodes.put(name, new NodeStatus(numExecutors < 0 ? null : numExecutors, readString(in), readString(in),
+                    readString(in), readString(in), readString(in), readString(in)));
+        }
+        return new Snapshot(payload, timestamp, nodes, generation, true);
+    }
+
+    private static void writeString(@NonNull DataOutputStream out, @CheckForNull String value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @CheckForNull
+    private static String readString(@NonNull DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -24,14 +24,12 @@
 
 package io.jhnc.jenkins.plugins.statusoverview;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import groovy.json.JsonBuilder;
 import hudson.Extension;
-import hudson.PluginManager;
-import hudson.PluginWrapper;
+import hudson.ExtensionList;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
 import hudson.model.Computer;
 import hudson.model.Node;
 import hudson.model.RootAction;
@@ -41,19 +39,17 @@ import hudson.security.Permission;
 import hudson.security.PermissionGroup;
 import hudson.security.PermissionScope;
 import hudson.util.HttpResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jenkins.model.Jenkins;
 import org.kohsuke.stapler.HttpResponse;
 import org.kohsuke.stapler.StaplerProxy;
 import org.kohsuke.stapler.StaplerRequest2;
-import org.kohsuke.stapler.interceptor.RequirePOST;
+import org.kohsuke.stapler.verb.GET;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("PMD.TooManyMethods")
@@ -63,9 +59,12 @@ public class StatusOverviewAction implements RootAction, StaplerProxy {
     public static final PermissionGroup PERMISSIONS_GROUP = new PermissionGroup(StatusOverviewAction.class, Messages._StatusOverviewManager_PermissionGroup());
     public static final Permission READ = new Permission(PERMISSIONS_GROUP, Messages.StatusOverviewAction_ReadPermission(),
             Messages._StatusOverviewAction_ReadPermission_Description(), Jenkins.ADMINISTER, PermissionScope.JENKINS);
-    private final Cache<String, String> responseCache = Caffeine.newBuilder()
-            .expireAfterAccess(3, TimeUnit.MINUTES)
-            .build();
+    private static final long SNAPSHOT_REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final long SNAPSHOT_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(3);
+    private final FleetSummary summary = new FleetSummary();
+    private final SnapshotCollector collector = new SnapshotCollector(this, SNAPSHOT_IDLE_TIMEOUT_MS);
+    private final SnapshotLoader loader = new SnapshotLoader(this, collector, SNAPSHOT_REFRESH_INTERVAL_MS, SNAPSHOT_IDLE_TIMEOUT_MS);
+    private final AgentsEndpoint agents = new AgentsEndpoint(loader, SNAPSHOT_REFRESH_INTERVAL_MS);
 
     @CheckForNull
     @Override
@@ -91,37 +90,124 @@ public class StatusOverviewAction implements RootAction, StaplerProxy {
         return this;
     }
 
-    @RequirePOST
+    @RequirePOSTOrCacheableGET
     @NonNull
     public HttpResponse doPlugins(@NonNull StaplerRequest2 req) {
         checkPermission();
         LOGGER.debug("Plugins status request from '{}'", req.getRemoteHost());
-
-        try (ACLContext ignored = changeContext()) {
-            return response(responseCache.get("plugins", key -> collectPluginData()));
-        }
+        return response(loader.getCache().get(SnapshotKey.PLUGINS_KEY));
     }
 
-    @RequirePOST
+    @RequirePOSTOrCacheableGET(paths = AgentsEndpoint.STREAM_PATH)
     @NonNull
     public HttpResponse doAgents(@NonNull StaplerRequest2 req) {
         checkPermission();
         LOGGER.debug("Agents status request from '{}'", req.getRemoteHost());
-
-        try (ACLContext ignored = changeContext()) {
-            return response(responseCache.get("agents", key -> collectAgentData()));
-        }
+        return agents.respond(req, this::getHistoryDirectory);
     }
 
-    @RequirePOST
+    @RequirePOSTOrCacheableGET
     @NonNull
     public HttpResponse doMaster(@NonNull StaplerRequest2 req) {
         checkPermission();
         LOGGER.debug("Master status request from '{}'", req.getRemoteHost());
+        final SnapshotKey key = SnapshotKey.parse(SnapshotKey.MASTER, req.getParameter("fields"), NodeField.MASTER);
+
+        if (key == null) {
+            return HttpResponses.errorWithoutStack(HttpServletResponse.SC_BAD_REQUEST, "Invalid fields");
+        }
+        return response(loader.getCache().get(key));
+    }
+
+    @RequirePOSTOrCacheableGET
+    @NonNull
+    public HttpResponse doAll(@NonNull StaplerRequest2 req) {
+        checkPermission();
+        LOGGER.debug("Combined status request from '{}'", req.getRemoteHost());
+        return response(loader.getCache().get(SnapshotKey.ALL_SECTIONS));
+    }
+
+    @RequirePOSTOrCacheableGET
+    @NonNull
+    public HttpResponse doSummary(@NonNull StaplerRequest2 req) {
+        checkPermission();
+        LOGGER.debug("Summary request from '{}'", req.getRemoteHost());
+
+        if (!summary.isInitialized()) {
+            refreshSummary();
+        }
+        return transientResponse(new Snapshot(summary.toJson(), summary.getTimestamp()));
+    }
 
+    @GET
+    @NonNull
+    public HttpResponse doMetrics(@NonNull StaplerRequest2 req) {
+        checkPermission();
+        LOGGER.debug("Metrics request from '{}'", req.getRemoteHost());
+        return new CorsHttpResponse(collector.getMetrics().render(loader.getCache().stats(),
+                loader.getCache().size()), "text/plain; version=0.0.4");
+    }
+
+    @NonNull
+    public CompletableFuture<Void> refreshSnapshots() {
+        if (summary.isInitialized()) {
+            refreshSummary();
+        }
+        return loader.getCache().refreshRequested().thenRun(() -> persistSnapshots(System.currentTimeMillis()));
+    }
+
+    public void sampleHistory() {
         try (ACLContext ignored = changeContext()) {
-            return response(responseCache.get("master", key -> collectMasterData()));
+            final ConfigurationSnapshot configuration = getConfiguration();
+            agents.getHistory().record(System.currentTimeMillis(), collector.computers(), configuration.getHistoryRetention(),
+                    configuration.isArchiveHistory());
+        }
+    }
+
+    public void archiveHistory() {
+        archiveHistory(System.currentTimeMillis());
+    }
+
+    void archiveHistory(long now) {
+        if (agents.getHistory().isArchiveDue(now)) {
+            final ConfigurationSnapshot configuration = getConfiguration();
+            agents.getHistory().flushArchive(getHistoryDirectory(), now, configuration.getArchiveRetention(), configuration.getArchiveCompaction());
+        }
+    }
+
+    void persistSnapshots(long now) {
+        loader.getPersistence().persist(this::getSnapshotFile, now);
+    }
+
+    void restoreSnapshots() {
+        loader.getPersistence().restore(getSnapshotFile());
+    }
+
+    @Initializer(after = InitMilestone.JOB_LOADED)
+    public static void restoreSnapshotsOnStartup() {
+        ExtensionList.lookupSingleton(StatusOverviewAction.class).restoreSnapshots();
+    }
+
+    @NonNull
+    public CompletableFuture<Void> agentChanged(@NonNull String name) {
+        if (!name.isEmpty() && summary.isInitialized()) {
+            try (ACLContext ignored = changeContext()) {
+                summary.refresh(name, collector.computer(name), System.currentTimeMillis());
+            }
         }
+        return name.isEmpty() ? CompletableFuture.completedFuture(null) : loader.update(name);
+    }
+
+    void agentConnected(@NonNull Computer computer) {
+        collector.agentConnected(computer);
+    }
+
+    void agentDisconnected(@NonNull Computer computer) {
+        collector.getAgentInfos().drop(computer);
+    }
+
+    void agentEvent(@NonNull AgentEvent event, @NonNull String name, @CheckForNull String reason) {
+        agents.getEvents().publish(event, name, reason);
     }
 
     protected void checkPermission() {
@@ -145,79 +231,40 @@ public class StatusOverviewAction implements RootAction, StaplerProxy {
 
     @NonNull
     protected NodeComputerDetails getNodeDetails(@NonNull Computer computer) {
-        return new NodeComputerDetails(computer);
+        return new NodeComputerDetails(computer, collector.getAgentInfos());
     }
 
     @NonNull
-    private String collectPluginData() {
-        final Jenkins jenkins = getJenkins();
-        final PluginManager pluginManager = jenkins.getPluginManager();
-        final List<Map<String, String>> pluginList = new ArrayList<>();
-
-        for (final PluginWrapper plugin : pluginManager.getPlugins()) {
-            final Map<String, String> pluginDetails = new HashMap<>();
-            pluginDetails.put("name", plugin.getShortName());
-            pluginDetails.put("displayName", plugin.getDisplayName());
-            pluginDetails.put("version", plugin.getVersion());
-            pluginList.add(pluginDetails);
-        }
-        return toJson(pluginList);
+    protected Path getSnapshotFile() {
+        return getJenkins().getRootDir().toPath().resolve("status-overview").resolve("snapshots.bin");
     }
 
     @NonNull
-    private String collectAgentData() {
-        final List<Map<String, String>> nodeList = new ArrayList<>();
-
-        for (final Node node : getJenkins().getNodes()) {
-            if (node != null) {
-                final Computer computer = getComputer(node);
-
-                if (computer != null) {
-                    nodeList.add(transformToMap(getNodeDetails(computer), false));
-                }
-            }
-        }
-        return toJson(nodeList);
-    }
-
-    @CheckForNull
-    private String collectMasterData() {
-        final Computer master = getJenkins().getComputers()[0];
-
-        if (master != null) {
-            return toJson(Collections.singletonList(transformToMap(getNodeDetails(master), true)));
-        }
-        return null;
+    protected Path getHistoryDirectory() {
+        return getJenkins().getRootDir().toPath().resolve("status-overview").resolve("history");
     }
 
     @NonNull
-    private Map<String, String> transformToMap(@NonNull NodeComputerDetails details, boolean isMaster) {
-        final Map<String, String> data = new HashMap<>();
-        data.put("name", details.getHostname());
-        data.put("operatingSystem", details.getOperatingSystem());
-        data.put("numExecutors", Integer.toString(details.getNumExecutors()));
-        data.put("memory", details.getMemoryUtilization());
-        data.put("javaVersion", details.getJavaVersion());
+    ConfigurationSnapshot getConfiguration() {
+        return ConfigurationSnapshot.get();
+    }
 
-        if (isMaster) {
-            data.put("coreVersion", details.getCoreVersion());
-        } else {
-            data.put("status", details.isOffline() ? "Offline (" + details.getOfflineCauseReason() + ")" : "Online");
+    private void refreshSummary() {
+        try (ACLContext ignored = changeContext()) {
+            summary.reconcile(collector.computers(), System.currentTimeMillis());
         }
-
-        return data;
     }
 
     @NonNull
-    private String toJson(@NonNull Object obj) {
-        return new JsonBuilder(obj).toString();
+    private HttpResponse response(@CheckForNull Snapshot snapshot) {
+        if (snapshot != null) {
+            return CorsHttpResponse.json(snapshot, SNAPSHOT_REFRESH_INTERVAL_MS);
+        }
+        return HttpResponses.notFound();
     }
 
     @NonNull
-    private HttpResponse response(@CheckForNull String payload) {
-        if (payload != null) {
-            return CorsHttpResponse.json(payload);
-        }
-        return HttpResponses.notFound();
+    private static HttpResponse transientResponse(@NonNull Snapshot snapshot) {
+        return CorsHttpResponse.transientJson(snapshot, SNAPSHOT_REFRESH_INTERVAL_MS);
     }
 }
@@ -36,14 +36,30 @@ import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.interceptor.RequirePOST;
 
-import java.net.URI;
 import java.util.Objects;
 
 public class StatusOverviewConfiguration extends GlobalConfiguration {
 
+    @SuppressWarnings("PMD.TooManyMethods")
     @Extension
     public static class DescriptorImpl extends Descriptor<GlobalConfiguration> {
+        public static final int DEFAULT_COLLECTOR_THREADS = 16;
+        public static final int DEFAULT_AGENT_TIMEOUT = 30;
+        public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+        public static final int DEFAULT_CIRCUIT_BREAKER_COOLDOWN = 300;
+        public static final int DEFAULT_HISTORY_RETENTION = 24;
+        public static final int DEFAULT_ARCHIVE_RETENTION = 30;
+        public static final int DEFAULT_ARCHIVE_COMPACTION = 1;
         private String overviewLink;
+        private int collectorThreads = DEFAULT_COLLECTOR_THREADS;
+        private int agentTimeout = DEFAULT_AGENT_TIMEOUT;
+        private int circuitBreakerThreshold = DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+        private int circuitBreakerCooldown = DEFAULT_CIRCUIT_BREAKER_COOLDOWN;
+        private int historyRetention = DEFAULT_HISTORY_RETENTION;
+        private int archiveRetention = DEFAULT_ARCHIVE_RETENTION;
+        private int archiveCompaction = DEFAULT_ARCHIVE_COMPACTION;
+        private boolean archiveHistory;
+        private boolean cacheableGet;
 
         public DescriptorImpl() {
             super(StatusOverviewConfiguration.class);
@@ -56,6 +72,12 @@ public class StatusOverviewConfiguration extends GlobalConfiguration {
             return "Status Overview Plugin";
         }
 
+        @Override
+        public void load() {
+            super.load();
+            publish();
+        }
+
         @Override
         public boolean configure(@NonNull StaplerRequest2 req, @NonNull JSONObject o) throws FormException {
             if (Jenkins.get().hasPermission(Jenkins.ADMINISTER)) {
@@ -65,7 +87,32 @@ public class StatusOverviewConfiguration extends GlobalConfiguration {
                     throw new FormException(Messages.StatusOverviewConfiguration_urlValidationError(), "statusOverviewLink");
                 }
 
-                setOverviewLink(overviewLink);
+                final int collectorThreads = positive(o, "collectorThreads", DEFAULT_COLLECTOR_THREADS,
+                        Messages.StatusOverviewConfiguration_collectorThreadsValidationError());
+                final int agentTimeout = positive(o, "agentTimeout", DEFAULT_AGENT_TIMEOUT,
+                        Messages.StatusOverviewConfiguration_agentTimeoutValidationError());
+                final int circuitBreakerThreshold = positive(o, "circuitBreakerThreshold", DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+                        Messages.StatusOverviewConfiguration_circuitBreakerThresholdValidationError());
+                final int circuitBreakerCooldown = positive(o, "circuitBreakerCooldown", DEFAULT_CIRCUIT_BREAKER_COOLDOWN,
+                        Messages.StatusOverviewConfiguration_circuitBreakerCooldownValidationError());
+                final int historyRetention = positive(o, "historyRetention", DEFAULT_HISTORY_RETENTION,
+                        Messages.StatusOverviewConfiguration_historyRetentionValidationError());
+                final int archiveRetention = positive(o, "archiveRetention", DEFAULT_ARCHIVE_RETENTION,
+                        Messages.StatusOverviewConfiguration_archiveRetentionValidationError());
+                final int archiveCompaction = positive(o, "archiveCompaction", DEFAULT_ARCHIVE_COMPACTION,
+                        Messages.StatusOverviewConfiguration_archiveCompactionValidationError());
+
+                this.overviewLink = overviewLink.trim();
+                this.collectorThreads = collectorThreads;
+                this.agentTimeout = agentTimeout;
+                this.circuitBreakerThreshold = circuitBreakerThreshold;
+                this.circuitBreakerCooldown = circuitBreakerCooldown;
+                this.historyRetention = historyRetention;
+                this.archiveRetention = archiveRetention;
+                this.archiveCompaction = archiveCompaction;
+                this.archiveHistory = o.optBoolean("archiveHistory", false);
+                this.cacheableGet = o.optBoolean("cacheableGet", false);
+                publish();
                 save();
                 return super.configure(req, o);
             }
@@ -79,17 +126,93 @@ public class StatusOverviewConfiguration extends GlobalConfiguration {
 
         @NonNull
         public String getLinkRoot() {
-            final String url = getOverviewLink();
-
-            if (!url.isEmpty()) {
-                final URI uri = URI.create(getOverviewLink());
-                return uri.getScheme() + "://" + uri.getAuthority();
-            }
-            return url;
+            return ConfigurationSnapshot.linkRoot(getOverviewLink());
         }
 
         public void setOverviewLink(@CheckForNull String overviewLink) {
             this.overviewLink = safeAndTrimmed(overviewLink);
+            publish();
+        }
+
+        public int getCollectorThreads() {
+            return checkCollectorThreads(collectorThreads) ? collectorThreads : DEFAULT_COLLECTOR_THREADS;
+        }
+
+        public void setCollectorThreads(int collectorThreads) {
+            this.collectorThreads = collectorThreads;
+            publish();
+        }
+
+        public int getAgentTimeout() {
+            return checkPositive(agentTimeout) ? agentTimeout : DEFAULT_AGENT_TIMEOUT;
+        }
+
+        public void setAgentTimeout(int agentTimeout) {
+            this.agentTimeout = agentTimeout;
+            publish();
+        }
+
+        public int getCircuitBreakerThreshold() {
+            return checkPositive(circuitBreakerThreshold) ? circuitBreakerThreshold : DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+        }
+
+        public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+            this.circuitBreakerThreshold = circuitBreakerThreshold;
+            publish();
+        }
+
+        public int getCircuitBreakerCooldown() {
+            return checkPositive(circuitBreakerCooldown) ? circuitBreakerCooldown : DEFAULT_CIRCUIT_BREAKER_COOLDOWN;
+        }
+
+        public void setCircuitBreakerCooldown(int circuitBreakerCooldown) {
+            this.circuitBreakerCooldown = circuitBreakerCooldown;
+            publish();
+        }
+
+        public int getHistoryRetention() {
+            return checkPositive(historyRetention) ? historyRetention : DEFAULT_HISTORY_RETENTION;
+        }
+
+        public void setHistoryRetention(int historyRetention) {
+            this.historyRetention = historyRetention;
+            publish();
+        }
+
+        public int getArchiveRetention() {
+            return checkPositive(archiveRetention) ? archiveRetention : DEFAULT_ARCHIVE_RETENTION;
+        }
+
+        public void setArchiveRetention(int archiveRetention) {
+            this.archiveRetention = archiveRetention;
+            publish();
+        }
+
+        public int getArchiveCompaction() {
+            return checkPositive(archiveCompaction) ? archiveCompaction : DEFAULT_ARCHIVE_COMPACTION;
+        }
+
+        public void setArchiveCompaction(int archiveCompaction) {
+            this.archiveCompaction = archiveCompaction;
+            publish();
+        }
+
+        public boolean isArchiveHistory() {
+            return archiveHistory;
+        }
+
+        public void setArchiveHistory(boolean archiveHistory) {
+            this.archiveHistory = archiveHistory;
+            publish();
+        }
+
+        public boolean isCacheableGet() {
+            return cacheableGet;
+        }
+
+        public void setCacheableGet(boolean cacheableGet) {
+            this.cacheableGet = cacheableGet;
+            publish();
         }
 
         @RequirePOST
@@ -101,6 +224,92 @@ public class StatusOverviewConfiguration extends GlobalConfiguration {
                     : FormValidation.error(Messages.StatusOverviewConfiguration_urlValidationError());
         }
 
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckCollectorThreads(@QueryParameter int collectorThreads) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkCollectorThreads(collectorThreads)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_collectorThreadsValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckAgentTimeout(@QueryParameter int agentTimeout) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(agentTimeout)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_agentTimeoutValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckCircuitBreakerThreshold(@QueryParameter int circuitBreakerThreshold) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(circuitBreakerThreshold)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_circuitBreakerThresholdValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckCircuitBreakerCooldown(@QueryParameter int circuitBreakerCooldown) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(circuitBreakerCooldown)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_circuitBreakerCooldownValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckHistoryRetention(@QueryParameter int historyRetention) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(historyRetention)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_historyRetentionValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckArchiveRetention(@QueryParameter int archiveRetention) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(archiveRetention)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_archiveRetentionValidationError());
+        }
+
+        @RequirePOST
+        @NonNull
+        public FormValidation doCheckArchiveCompaction(@QueryParameter int archiveCompaction) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            return checkPositive(archiveCompaction)
+                    ? FormValidation.ok()
+                    : FormValidation.error(Messages.StatusOverviewConfiguration_archiveCompactionValidationError());
+        }
+
+        private void publish() {
+            ConfigurationSnapshot.publish(ConfigurationSnapshot.from(this));
+        }
+
+        private boolean checkCollectorThreads(int collectorThreads) {
+            return checkPositive(collectorThreads);
+        }
+
+        private boolean checkPositive(int value) {
+            return value > 0;
+        }
+
+        @SuppressWarnings("PMD.LooseCoupling")
+        private int positive(@NonNull JSONObject o, @NonNull String field, int defaultValue, @NonNull String message)
+                throws FormException {
+            final int value = o.optInt(field, defaultValue);
+
+            if (!checkPositive(value)) {
+                throw new FormException(message, field);
+            }
+            return value;
+        }
+
         private boolean checkOverviewLink(@NonNull String overviewLink) {
             return overviewLink.isEmpty() || ValidationUtils.isValidUrl(overviewLink);
         }
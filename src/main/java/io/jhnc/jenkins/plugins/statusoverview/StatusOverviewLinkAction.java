@@ -66,14 +66,17 @@ public class StatusOverviewLinkAction implements RootAction, StaplerProxy {
         return Jenkins.get();
     }
 
+    @NonNull
+    ConfigurationSnapshot getConfiguration() {
+        return ConfigurationSnapshot.get();
+    }
+
     private boolean showLink() {
-        return getJenkins().hasPermission(StatusOverviewAction.READ) && !ValidationUtils.isNullOrEmpty(getOverviewLink());
+        return !getOverviewLink().isEmpty() && getJenkins().hasPermission(StatusOverviewAction.READ);
     }
 
-    @CheckForNull
+    @NonNull
     private String getOverviewLink() {
-        final StatusOverviewConfiguration.DescriptorImpl descriptor = (StatusOverviewConfiguration.DescriptorImpl)
-                getJenkins().getDescriptor(StatusOverviewConfiguration.class);
-        return descriptor == null ? null : descriptor.getOverviewLink();
+        return getConfiguration().getOverviewLink();
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("PMD.TooManyMethods")
+final class StatusOverviewMetrics {
+    private static final double[] LATENCY_BUCKETS = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+    private static final double[] SIZE_BUCKETS = {1024, 4096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final Map<String, Histogram> collection = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> serialization = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> payload = new ConcurrentHashMap<>();
+    private final Histogram agentCalls = new Histogram(LATENCY_BUCKETS);
+    private final LongAdder agentTimeouts = new LongAdder();
+    private final LongAdder agentsSkipped = new LongAdder();
+
+    void recordCollection(@NonNull String endpoint, long nanos) {
+        latency(collection, endpoint).observe(nanos / NANOS_PER_SECOND);
+    }
+
+    void recordSerialization(@NonNull String endpoint, long nanos) {
+        latency(serialization, endpoint).observe(nanos / NANOS_PER_SECOND);
+    }
+
+    void recordPayload(@NonNull String endpoint, int bytes) {
+        payload.computeIfAbsent(endpoint, key -> new Histogram(SIZE_BUCKETS)).observe(bytes);
+    }
+
+    void recordAgentCall(long nanos) {
+        agentCalls.observe(nanos / NANOS_PER_SECOND);
+    }
+
+    void recordAgentTimeout() {
+        agentTimeouts.increment();
+    }
+
+    void recordAgentSkipped() {
+        agentsSkipped.increment();
+    }
+
+    @NonNull
+    String render(@NonNull CacheStats cacheStats, long cacheSize) {
+        final StringBuilder out = new StringBuilder(4096);
+        histograms(out, "status_overview_collection_seconds", "Time spent collecting snapshot data.", collection);
+        histograms(out, "status_overview_serialization_seconds", "Time spent serializing snapshot data.", serialization);
+        histograms(out, "status_overview_payload_bytes", "Size of the serialized snapshot payload.", payload);
+        header(out, "status_overview_agent_call_seconds", "Time spent in remote calls per agent.", "histogram");
+        agentCalls.writeTo(out, "status_overview_agent_call_seconds", "");
+        counter(out, "status_overview_agent_timeouts_total", "Agents which did not respond in time.", agentTimeouts.sum());
+        counter(out, "status_overview_agent_skipped_total", "Agents skipped because of an open circuit.", agentsSkipped.sum());
+        counter(out, "status_overview_cache_hits_total", "Snapshot cache hits.", cacheStats.hitCount());
+        counter(out, "status_overview_cache_misses_total", "Snapshot cache misses.", cacheStats.missCount());
+        counter(out, "status_overview_cache_load_success_total", "Successful snapshot loads.", cacheStats.loadSuccessCount());
+        counter(out, "status_overview_cache_load_failure_total", "Failed snapshot loads.", cacheStats.loadFailureCount());
+        header(out, "status_overview_cache_load_seconds_total", "Time spent loading snapshots.", "counter");
+        out.append("status_overview_cache_load_seconds_total ")
+                .append(Histogram.format(cacheStats.totalLoadTime() / NANOS_PER_SECOND)).append('\n');
+        counter(out, "status_overview_cache_evictions_total", "Evicted snapshots.", cacheStats.evictionCount());
+        header(out, "status_overview_cache_size", "Number of cached snapshots.", "gauge");
+        out.append("status_overview_cache_size ").append(cacheSize).append('\n');
+        return out.toString();
+    }
+
+    @NonNull
+    private static Histogram latency(@NonNull Map<String, Histogram> histograms, @NonNull String endpoint) {
+        return histograms.computeIfAbsent(endpoint, key -> new Histogram(LATENCY_BUCKETS));
+    }
+
+    private static void histograms(@NonNull StringBuilder out, @NonNull String name, @NonNull String help,
+                                   @NonNull Map<String, Histogram> histograms) {
+        header(out, name, help, "histogram");
+        new TreeMap<>(histograms).forEach((endpoint, histogram) ->
+                histogram.writeTo(out, name, "endpoint=\"" + endpoint + "\""));
+    }
+
+    private static void counter(@NonNull StringBuilder out, @NonNull String name, @NonNull String help, long value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void header(@NonNull StringBuilder out, @NonNull String name, @NonNull String help, @NonNull String type) {
+        out.append("# HELP ").append(name).append(' ').append(help)
+                .append("\n# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class AgentChangeLogTest {
+    private static final NodeStatus ONLINE = new NodeStatus(null, null, null, null, null, "Online", null);
+    private static final NodeStatus OFFLINE = new NodeStatus(null, null, null, null, null, "Offline (a reason)", null);
+
+    @Test
+    void emptyLogReturnsFullState() {
+        final AgentChangeLog log = new AgentChangeLog();
+        assertThat(json(log.changesSince(0L))).isEqualTo("{\"generation\":0,\"full\":true,\"changed\":{},\"removed\":[]}");
+    }
+
+    @Test
+    void firstRecordIsFirstGeneration() {
+        final AgentChangeLog log = new AgentChangeLog();
+        assertThat(log.record(agents("agent-0", ONLINE))).isEqualTo(1L);
+        assertThat(json(log.changesSince(0L))).isEqualTo("{\"generation\":1,\"full\":true,"
+                + "\"changed\":{\"agent-0\":{\"status\":\"Online\"}},\"removed\":[]}");
+    }
+
+    @Test
+    void recordWithoutChangesKeepsGeneration() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE));
+
+        assertThat(log.record(agents("agent-0", ONLINE))).isEqualTo(1L);
+        assertThat(log.getGeneration()).isEqualTo(1L);
+    }
+
+    @Test
+    void restoreSeedsGeneration() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.restore(agents("agent-0", ONLINE), 5L);
+
+        assertThat(log.getGeneration()).isEqualTo(5L);
+        assertThat(log.record(agents("agent-0", OFFLINE))).isEqualTo(6L);
+        assertThat(json(log.changesSince(5L))).isEqualTo("{\"generation\":6,\"full\":false,"
+                + "\"changed\":{\"agent-0\":{\"status\":\"Offline (a reason)\"}},\"removed\":[]}");
+    }
+
+    @Test
+    void restoreIsIgnoredAfterRecord() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE));
+        log.restore(agents("agent-0", OFFLINE), 5L);
+
+        assertThat(log.getGeneration()).isEqualTo(1L);
+    }
+
+    @Test
+    void changesSinceReturnsOnlyChanges() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE, "agent-1", ONLINE, "agent-2", ONLINE));
+        assertThat(log.record(agents("agent-0", ONLINE, "agent-1", OFFLINE, "agent-3", ONLINE))).isEqualTo(2L);
+
+        assertThat(json(log.changesSince(1L))).isEqualTo("{\"generation\":2,\"full\":false,\"changed\":{"
+                + "\"agent-1\":{\"status\":\"Offline (a reason)\"},\"agent-3\":{\"status\":\"Online\"}},"
+                + "\"removed\":[\"agent-2\"]}");
+    }
+
+    @Test
+    void recordChangesRecordsOnlyGivenAgents() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE, "agent-1", ONLINE, "agent-2", ONLINE));
+
+        assertThat(log.record(Map.of("agent-1", OFFLINE), Set.of("agent-2"))).isEqualTo(2L);
+        assertThat(json(log.changesSince(1L))).isEqualTo("{\"generation\":2,\"full\":false,\"changed\":{"
+                + "\"agent-1\":{\"status\":\"Offline (a reason)\"}},\"removed\":[\"agent-2\"]}");
+        assertThat(json(log.changesSince(0L))).isEqualTo("{\"generation\":2,\"full\":true,\"changed\":{"
+                + "\"agent-0\":{\"status\":\"Online\"},\"agent-1\":{\"status\":\"Offline (a reason)\"}},\"removed\":[]}");
+    }
+
+    @Test
+    void recordChangesWithoutChangesKeepsGeneration() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE));
+
+        assertThat(log.record(Map.of(), Set.of())).isEqualTo(1L);
+    }
+
+    @Test
+    void changesSinceCurrentGenerationIsEmpty() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE));
+        log.record(agents("agent-0", OFFLINE));
+
+        assertThat(json(log.changesSince(2L))).isEqualTo("{\"generation\":2,\"full\":false,\"changed\":{},\"removed\":[]}");
+    }
+
+    @Test
+    void changesSinceCombinesGenerations() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE, "agent-1", ONLINE));
+        log.record(agents("agent-0", OFFLINE, "agent-1", ONLINE));
+        log.record(agents("agent-1", ONLINE));
+        log.record(agents("agent-0", ONLINE, "agent-1", OFFLINE));
+
+        assertThat(json(log.changesSince(1L))).isEqualTo("{\"generation\":4,\"full\":false,\"changed\":{"
+                + "\"agent-0\":{\"status\":\"Online\"},\"agent-1\":{\"status\":\"Offline (a reason)\"}},\"removed\":[]}");
+        assertThat(json(log.changesSince(3L))).isEqualTo("{\"generation\":4,\"full\":false,\"changed\":{"
+                + "\"agent-0\":{\"status\":\"Online\"},\"agent-1\":{\"status\":\"Offline (a reason)\"}},\"removed\":[]}");
+        assertThat(json(log.changesSince(2L))).contains("\"full\":false");
+    }
+
+    @Test
+    void agedOutGenerationReturnsFullState() {
+        final AgentChangeLog log = new AgentChangeLog(1);
+        log.record(agents("agent-0", ONLINE, "agent-1", ONLINE));
+        log.record(agents("agent-0", OFFLINE, "agent-1", ONLINE));
+        log.record(agents("agent-0", OFFLINE, "agent-1", OFFLINE));
+
+        assertThat(json(log.changesSince(1L))).isEqualTo("{\"generation\":3,\"full\":true,\"changed\":{"
+                + "\"agent-0\":{\"status\":\"Offline (a reason)\"},\"agent-1\":{\"status\":\"Offline (a reason)\"}},"
+                + "\"removed\":[]}");
+        assertThat(json(log.changesSince(2L))).isEqualTo("{\"generation\":3,\"full\":false,\"changed\":{"
+                + "\"agent-1\":{\"status\":\"Offline (a reason)\"}},\"removed\":[]}");
+    }
+
+    @Test
+    void unknownGenerationReturnsFullState() {
+        final AgentChangeLog log = new AgentChangeLog();
+        log.record(agents("agent-0", ONLINE));
+
+        assertThat(json(log.changesSince(5L))).contains("\"full\":true");
+        assertThat(json(log.changesSince(-1L))).contains("\"full\":true");
+    }
+
+    @NonNull
+    private static Map<String, NodeStatus> agents(@NonNull Object... entries) {
+        final Map<String, NodeStatus> agents = new LinkedHashMap<>();
+
+        for (int i = 0; i < entries.length; i += 2) {
+            agents.put((String) entries[i], (NodeStatus) entries[i + 1]);
+        }
+        return agents;
+    }
+
+    @NonNull
+    private static String json(@NonNull byte[] data) {
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
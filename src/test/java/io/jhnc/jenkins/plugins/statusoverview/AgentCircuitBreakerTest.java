@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class AgentCircuitBreakerTest {
+    @Test
+    void circuitIsClosedByDefault() {
+        final AgentCircuitBreaker breaker = new AgentCircuitBreaker();
+        assertThat(breaker.isOpen("agent-0", 0L)).isFalse();
+    }
+
+    @Test
+    void circuitOpensAfterThreshold() {
+        final AgentCircuitBreaker breaker = new AgentCircuitBreaker();
+
+        breaker.recordTimeout("agent-0", 2, 1000L, 100L);
+        assertThat(breaker.isOpen("agent-0", 100L)).isFalse();
+        breaker.recordTimeout("agent-0", 2, 1000L, 200L);
+        assertThat(breaker.isOpen("agent-0", 200L)).isTrue();
+        assertThat(breaker.isOpen("agent-1", 200L)).isFalse();
+    }
+
+    @Test
+    void circuitClosesAfterCooldown() {
+        final AgentCircuitBreaker breaker = new AgentCircuitBreaker();
+
+        breaker.recordTimeout("agent-0", 1, 1000L, 100L);
+        assertThat(breaker.isOpen("agent-0", 1099L)).isTrue();
+        assertThat(breaker.isOpen("agent-0", 1100L)).isFalse();
+    }
+
+    @Test
+    void circuitReopensOnTimeoutAfterCooldown() {
+        final AgentCircuitBreaker breaker = new AgentCircuitBreaker();
+
+        breaker.recordTimeout("agent-0", 2, 1000L, 0L);
+        breaker.recordTimeout("agent-0", 2, 1000L, 0L);
+        breaker.recordTimeout("agent-0", 2, 1000L, 1000L);
+        assertThat(breaker.isOpen("agent-0", 1500L)).isTrue();
+    }
+
+    @Test
+    void resetClosesCircuit() {
+        final AgentCircuitBreaker breaker = new AgentCircuitBreaker();
+
+        breaker.recordTimeout("agent-0", 1, 1000L, 0L);
+        breaker.reset("agent-0");
+        assertThat(breaker.isOpen("agent-0", 0L)).isFalse();
+        breaker.recordTimeout("agent-0", 2, 1000L, 0L);
+        assertThat(breaker.isOpen("agent-0", 0L)).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import hudson.model.Computer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgentCollectorTest {
+    private static final NodeStatus ONLINE = new NodeStatus(2, "2/8 GB", "21.0.1", "agent-0", "Linux", "Online", null);
+    private static final AgentCollector.Limits LIMITS = new AgentCollector.Limits(4, 50L, 1, 60_000L);
+    @Mock
+    Computer computer;
+
+    @Test
+    void limitsFromConfiguration() {
+        final ConfigurationSnapshot configuration = new ConfigurationSnapshot("", 4, 5, 6, 7, 8, 9, 10, false, false);
+
+        assertThat(AgentCollector.Limits.from(configuration)).isEqualTo(new AgentCollector.Limits(4, 5_000L, 6, 7_000L));
+    }
+
+    @Test
+    void collectReturnsEntriesInOrder() {
+        final AgentCollector collector = new AgentCollector(new StatusOverviewMetrics(), 60_000L);
+
+        final Map<String, NodeStatus> entries = collector.collect(Map.of("agent-0", computer), NodeField.AGENT, LIMITS,
+                (agent, fields) -> ONLINE);
+
+        assertThat(entries).containsExactly("agent-0", ONLINE);
+    }
+
+    @Test
+    void timedOutAgentIsSkippedUntilReset() {
+        when(computer.getNumExecutors()).thenReturn(2);
+        final AgentCollector collector = new AgentCollector(new StatusOverviewMetrics(), 60_000L);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        try {
+            final Map<String, NodeStatus> timedOut = collector.collect(Map.of("agent-0", computer), NodeField.AGENT, LIMITS,
+                    (agent, fields) -> {
+                        calls.incrementAndGet();
+                        try {
+                            released.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return ONLINE;
+                    });
+            assertThat(timedOut.get("agent-0").status()).isEqualTo("Unavailable (timed out)");
+
+            final Map<String, NodeStatus> skipped = collector.collect(Map.of("agent-0", computer), NodeField.AGENT, LIMITS,
+                    (agent, fields) -> ONLINE);
+            assertThat(skipped.get("agent-0").status()).isEqualTo("Unavailable (circuit open)");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            released.countDown();
+        }
+
+        collector.reset("agent-0");
+        assertThat(collector.collect(Map.of("agent-0", computer), NodeField.AGENT, LIMITS, (agent, fields) -> ONLINE))
+                .containsExactly("agent-0", ONLINE);
+    }
+}
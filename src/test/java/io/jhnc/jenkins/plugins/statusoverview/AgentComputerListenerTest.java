@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import hudson.model.Computer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgentComputerListenerTest {
+    @Mock
+    StatusOverviewAction action;
+    @Mock
+    Computer computer;
+    AgentComputerListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = spy(new AgentComputerListener());
+        doReturn(action).when(listener).getAction();
+        when(computer.getName()).thenReturn("agent-0");
+    }
+
+    @Test
+    void onlineUpdatesAgent() {
+        listener.onOnline(computer, null);
+        verify(action).agentConnected(computer);
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.ONLINE, "agent-0", null);
+    }
+
+    @Test
+    void offlineUpdatesAgent() {
+        when(computer.getOfflineCauseReason()).thenReturn("disconnected");
+        listener.onOffline(computer, null);
+        verify(action).agentDisconnected(computer);
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.OFFLINE, "agent-0", "disconnected");
+    }
+
+    @Test
+    void temporarilyOnlineUpdatesAgent() {
+        listener.onTemporarilyOnline(computer);
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.ONLINE, "agent-0", null);
+    }
+
+    @Test
+    void temporarilyOfflineUpdatesAgent() {
+        when(computer.getOfflineCauseReason()).thenReturn("maintenance");
+        listener.onTemporarilyOffline(computer, null);
+        verify(action, never()).agentDisconnected(computer);
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.OFFLINE, "agent-0", "maintenance");
+    }
+}
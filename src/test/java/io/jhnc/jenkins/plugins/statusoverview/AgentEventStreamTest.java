@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgentEventStreamTest {
+    @Mock
+    AsyncContext context;
+
+    @Test
+    void subscribeSendsInitialSnapshot() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(60_000L, 8);
+        final ResponseCapture capture = new ResponseCapture();
+        when(context.getResponse()).thenReturn(capture);
+
+        connect(stream.subscribe(bytes("[]")), capture);
+        await(() -> capture.getResponseString().equals("event: snapshot\ndata: []\n\n"));
+
+        assertThat(capture.getResponseString()).isEqualTo("event: snapshot\ndata: []\n\n");
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publishSendsEventToSubscribers() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(60_000L, 8);
+        final ResponseCapture capture = new ResponseCapture();
+        when(context.getResponse()).thenReturn(capture);
+
+        connect(stream.subscribe(bytes("[]")), capture);
+        stream.publish("offline", bytes("{\"node\":\"agent-0\",\"reason\":\"disconnected\"}"));
+        await(() -> capture.getResponseString().contains("event: offline"));
+
+        assertThat(capture.getResponseString()).isEqualTo("event: snapshot\ndata: []\n\n"
+                + "event: offline\ndata: {\"node\":\"agent-0\",\"reason\":\"disconnected\"}\n\n");
+    }
+
+    @Test
+    void publishAgentEventSendsNodeAndReason() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(60_000L, 8);
+        final ResponseCapture capture = new ResponseCapture();
+        when(context.getResponse()).thenReturn(capture);
+
+        connect(stream.subscribe(bytes("[]")), capture);
+        stream.publish(AgentEvent.ONLINE, "agent-0", null);
+        stream.publish(AgentEvent.OFFLINE, "agent-0", "disconnected");
+        await(() -> capture.getResponseString().contains("event: offline"));
+
+        assertThat(capture.getResponseString()).isEqualTo("event: snapshot\ndata: []\n\n"
+                + "event: online\ndata: {\"node\":\"agent-0\"}\n\n"
+                + "event: offline\ndata: {\"node\":\"agent-0\",\"reason\":\"disconnected\"}\n\n");
+    }
+
+    @Test
+    void publishWithoutSubscribersIsIgnored() {
+        final AgentEventStream stream = new AgentEventStream();
+        stream.publish("online", bytes("{}"));
+        assertThat(stream.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    void idleStreamSendsHeartbeat() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(10L, 8);
+        final ResponseCapture capture = new ResponseCapture();
+        when(context.getResponse()).thenReturn(capture);
+
+        connect(stream.subscribe(bytes("[]")), capture);
+        await(() -> capture.getResponseString().contains(": heartbeat\n\n"));
+
+        assertThat(capture.getResponseString()).startsWith("event: snapshot\ndata: []\n\n: heartbeat\n\n");
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(60_000L, 2);
+        final ResponseCapture capture = new ResponseCapture();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        when(context.getResponse()).thenAnswer(invocation -> {
+            blocked.await();
+            return capture;
+        });
+
+        connect(stream.subscribe(bytes("[]")), capture);
+        stream.publish("online", bytes("{\"node\":\"agent-0\"}"));
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+        stream.publish("online", bytes("{\"node\":\"agent-1\"}"));
+        assertThat(stream.getSubscriberCount()).isEqualTo(0);
+
+        blocked.countDown();
+        verify(context, timeout(5000L)).complete();
+        assertThat(capture.getResponseString()).isEmpty();
+    }
+
+    @Test
+    void failedWriteRemovesSubscriber() throws IOException, InterruptedException {
+        final AgentEventStream stream = new AgentEventStream(60_000L, 8);
+        final ServletResponse failing = mock(ServletResponse.class);
+        when(failing.getOutputStream()).thenThrow(new IOException("connection reset"));
+        when(context.getResponse()).thenReturn(failing);
+
+        connect(stream.subscribe(bytes("[]")), new ResponseCapture());
+        verify(context, timeout(5000L)).complete();
+        await(() -> !stream.hasSubscribers());
+
+        assertThat(stream.hasSubscribers()).isFalse();
+    }
+
+    private void connect(@NonNull HttpResponse response, @NonNull ResponseCapture capture)
+            throws IOException {
+        final CorsHttpResponse spy = spy((CorsHttpResponse) response);
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(spy).getConfiguration();
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.startAsync()).thenReturn(context);
+
+        spy.generateResponse(req, capture, null);
+        verify(context).setTimeout(0L);
+    }
+
+    private static void await(@NonNull BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 250 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20L);
+        }
+    }
+
+    @NonNull
+    private static byte[] bytes(@NonNull String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
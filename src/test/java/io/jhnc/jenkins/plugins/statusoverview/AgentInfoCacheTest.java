@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import hudson.model.Computer;
+import hudson.remoting.VirtualChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgentInfoCacheTest {
+    private static final AgentInfo INFO = new AgentInfo("OpenJDK Runtime Environment", "21.0.1+12-LTS", "Linux",
+            "amd64");
+    @Mock
+    Computer computer;
+    @Mock
+    VirtualChannel channel;
+
+    @Test
+    void getLoadsOnMiss() throws IOException, InterruptedException {
+        when(computer.getChannel()).thenReturn(channel);
+        when(channel.call(any(AgentInfo.Collector.class))).thenReturn(INFO);
+        final AgentInfoCache cache = new AgentInfoCache();
+
+        assertThat(cache.get(computer)).isEqualTo(INFO);
+        assertThat(cache.get(computer)).isEqualTo(INFO);
+        verify(channel, times(1)).call(any(AgentInfo.Collector.class));
+    }
+
+    @Test
+    void getReloadsForNewChannel() throws IOException, InterruptedException {
+        final VirtualChannel reconnected = mock(VirtualChannel.class);
+        final AgentInfo updated = new AgentInfo("OpenJDK Runtime Environment", "25+36-LTS", "Linux", "amd64");
+        when(computer.getChannel()).thenReturn(channel, channel, reconnected);
+        when(channel.call(any(AgentInfo.Collector.class))).thenReturn(INFO);
+        when(reconnected.call(any(AgentInfo.Collector.class))).thenReturn(updated);
+        final AgentInfoCache cache = new AgentInfoCache();
+
+        assertThat(cache.get(computer)).isEqualTo(INFO);
+        assertThat(cache.get(computer)).isEqualTo(INFO);
+        assertThat(cache.get(computer)).isEqualTo(updated);
+    }
+
+    @Test
+    void getWithoutChannelReturnsNull() {
+        final AgentInfoCache cache = new AgentInfoCache();
+
+        assertThat(cache.get(computer)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void failedLookupIsNotCached() throws IOException, InterruptedException {
+        when(computer.getChannel()).thenReturn(channel);
+        when(channel.call(any(AgentInfo.Collector.class))).thenThrow(IOException.class).thenReturn(INFO);
+        final AgentInfoCache cache = new AgentInfoCache();
+
+        assertThat(cache.get(computer)).isNull();
+        assertThat(cache.get(computer)).isEqualTo(INFO);
+    }
+
+    @Test
+    void dropRemovesEntry() throws IOException, InterruptedException {
+        when(computer.getChannel()).thenReturn(channel);
+        when(channel.call(any(AgentInfo.Collector.class))).thenReturn(INFO);
+        final AgentInfoCache cache = new AgentInfoCache();
+
+        cache.get(computer);
+        cache.drop(computer);
+        assertThat(cache.size()).isEqualTo(0);
+        verify(computer, never()).getName();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import hudson.model.Descriptor;
+import hudson.slaves.DumbSlave;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AgentNodeListenerTest {
+    @Mock
+    StatusOverviewAction action;
+    AgentNodeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = spy(new AgentNodeListener());
+        doReturn(action).when(listener).getAction();
+    }
+
+    @Test
+    void createdUpdatesAgent() throws IOException, Descriptor.FormException {
+        listener.onCreated(new DumbSlave("agent-0", "/tmp/a", null));
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.ADDED, "agent-0", null);
+    }
+
+    @Test
+    void updatedUpdatesAgent() throws IOException, Descriptor.FormException {
+        listener.onUpdated(new DumbSlave("agent-0", "/tmp/a", null), new DumbSlave("agent-0", "/tmp/b", null));
+        verify(action, times(1)).agentChanged("agent-0");
+        verify(action, never()).agentEvent(any(), any(), any());
+    }
+
+    @Test
+    void renameUpdatesOldAndNewAgent() throws IOException, Descriptor.FormException {
+        listener.onUpdated(new DumbSlave("agent-0", "/tmp/a", null), new DumbSlave("agent-1", "/tmp/a", null));
+        verify(action).agentChanged("agent-0");
+        verify(action).agentChanged("agent-1");
+        verify(action).agentEvent(AgentEvent.REMOVED, "agent-0", null);
+        verify(action).agentEvent(AgentEvent.ADDED, "agent-1", null);
+    }
+
+    @Test
+    void deletedUpdatesAgent() throws IOException, Descriptor.FormException {
+        listener.onDeleted(new DumbSlave("agent-0", "/tmp/a", null));
+        verify(action).agentChanged("agent-0");
+        verify(action).agentEvent(AgentEvent.REMOVED, "agent-0", null);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class AgentPatchTest {
+    private static final NodeStatus ONLINE = new NodeStatus(null, null, null, null, null, "Online", null);
+    private static final NodeStatus OFFLINE = new NodeStatus(null, null, null, null, null, "Offline (a reason)", null);
+
+    @Test
+    void applyRecordsOnlyChangedAgents() {
+        final Snapshot snapshot = snapshot(Map.of("agent-0", ONLINE, "agent-1", ONLINE, "agent-2", ONLINE));
+
+        final AgentPatch patch = AgentPatch.apply(snapshot, Set.of("agent-0", "agent-1", "agent-2", "agent-3"),
+                Map.of("agent-0", ONLINE, "agent-1", OFFLINE, "agent-3", ONLINE));
+
+        assertThat(patch.nodes()).containsExactly("agent-0", ONLINE, "agent-1", OFFLINE, "agent-3", ONLINE).inOrder();
+        assertThat(patch.changed()).containsExactly("agent-1", OFFLINE, "agent-3", ONLINE);
+        assertThat(patch.removed()).containsExactly("agent-2");
+        assertThat(snapshot.getNodes()).hasSize(3);
+    }
+
+    @Test
+    void applyWithoutChangesIsEmpty() {
+        final AgentPatch patch = AgentPatch.apply(snapshot(Map.of("agent-0", ONLINE)), Set.of("agent-0", "agent-1"),
+                Map.of("agent-0", ONLINE));
+
+        assertThat(patch.isEmpty()).isTrue();
+    }
+
+    @Test
+    void mergeKeepsUpdatedAgents() {
+        final Snapshot current = snapshot(Map.of("agent-0", OFFLINE, "agent-1", ONLINE));
+
+        assertThat(AgentPatch.merge(Map.of("agent-0", ONLINE, "agent-1", OFFLINE, "agent-2", ONLINE), current,
+                Set.of("agent-0", "agent-2"))).containsExactly("agent-0", OFFLINE, "agent-1", OFFLINE).inOrder();
+    }
+
+    @Test
+    void mergeWithoutSnapshotUsesCollectedAgents() {
+        assertThat(AgentPatch.merge(Map.of("agent-0", ONLINE), null, Set.of("agent-0"))).containsExactly("agent-0", ONLINE);
+    }
+
+    private static Snapshot snapshot(Map<String, NodeStatus> nodes) {
+        return new Snapshot(new byte[0], 1_000L, nodes, 1L);
+    }
+}
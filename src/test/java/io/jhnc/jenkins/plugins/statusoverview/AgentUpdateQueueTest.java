@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class AgentUpdateQueueTest {
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Set<String>> batches = new ArrayList<>();
+    private final AgentUpdateQueue queue = new AgentUpdateQueue(task -> {
+        tasks.add(task);
+        return CompletableFuture.completedFuture(null);
+    }, batches::add);
+
+    @Test
+    void queuedAgentsAreCoalesced() {
+        queue.add("agent-0");
+        queue.add("agent-1");
+        queue.add("agent-0");
+
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(batches).containsExactly(Set.of("agent-0", "agent-1"));
+    }
+
+    @Test
+    void agentsAddedWhileRunningAreQueuedAgain() {
+        queue.add("agent-0");
+        tasks.get(0).run();
+        queue.add("agent-1");
+
+        assertThat(tasks).hasSize(2);
+        tasks.get(1).run();
+        assertThat(batches).containsExactly(Set.of("agent-0"), Set.of("agent-1")).inOrder();
+    }
+
+    @Test
+    void updatesDuringCollectionAreStamped() {
+        queue.add("agent-0");
+        tasks.get(0).run();
+        final long started = queue.beginCollection();
+        queue.add("agent-1");
+        tasks.get(1).run();
+
+        assertThat(queue.updatedSince(started)).containsExactly("agent-1");
+        assertThat(queue.updatedSince(queue.beginCollection())).isEmpty();
+    }
+
+    @Test
+    void stampsAreDroppedAfterCollections() {
+        final long started = queue.beginCollection();
+        queue.add("agent-0");
+        tasks.get(0).run();
+        queue.endCollection(started);
+
+        assertThat(queue.updatedSince(started)).isEmpty();
+    }
+}
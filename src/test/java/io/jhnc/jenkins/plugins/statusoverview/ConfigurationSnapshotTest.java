@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class ConfigurationSnapshotTest {
+    @AfterEach
+    void tearDown() {
+        ConfigurationSnapshot.publish(null);
+    }
+
+    @Test
+    void defaultsIfNothingPublished() {
+        final ConfigurationSnapshot configuration = ConfigurationSnapshot.get();
+
+        assertThat(configuration).isSameInstanceAs(ConfigurationSnapshot.DEFAULTS);
+        assertThat(configuration.getOverviewLink()).isEmpty();
+        assertThat(configuration.getCorsHeaders()).isSameInstanceAs(CorsHeaders.NONE);
+        assertThat(configuration.getCollectorThreads()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_COLLECTOR_THREADS);
+        assertThat(configuration.getAgentTimeout()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_AGENT_TIMEOUT);
+        assertThat(configuration.getCircuitBreakerThreshold())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_THRESHOLD);
+        assertThat(configuration.getCircuitBreakerCooldown())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_COOLDOWN);
+        assertThat(configuration.getHistoryRetention()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_HISTORY_RETENTION);
+        assertThat(configuration.getArchiveRetention()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_RETENTION);
+        assertThat(configuration.getArchiveCompaction()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_COMPACTION);
+        assertThat(configuration.isArchiveHistory()).isFalse();
+        assertThat(configuration.isCacheableGet()).isFalse();
+    }
+
+    @Test
+    void publishedSnapshotIsReturned() {
+        final ConfigurationSnapshot configuration = new ConfigurationSnapshot("https://abc.de/fg", 4, 5, 6, 7, 8, 9, 10, true, true);
+        ConfigurationSnapshot.publish(configuration);
+
+        assertThat(ConfigurationSnapshot.get()).isSameInstanceAs(configuration);
+    }
+
+    @Test
+    void valuesArePreserved() {
+        final ConfigurationSnapshot configuration = new ConfigurationSnapshot("https://abc.de/fg", 4, 5, 6, 7, 8, 9, 10, true, true);
+
+        assertThat(configuration.getOverviewLink()).isEqualTo("https://abc.de/fg");
+        assertThat(configuration.getCollectorThreads()).isEqualTo(4);
+        assertThat(configuration.getAgentTimeout()).isEqualTo(5);
+        assertThat(configuration.getCircuitBreakerThreshold()).isEqualTo(6);
+        assertThat(configuration.getCircuitBreakerCooldown()).isEqualTo(7);
+        assertThat(configuration.getHistoryRetention()).isEqualTo(8);
+        assertThat(configuration.getArchiveRetention()).isEqualTo(9);
+        assertThat(configuration.getArchiveCompaction()).isEqualTo(10);
+        assertThat(configuration.isArchiveHistory()).isTrue();
+        assertThat(configuration.isCacheableGet()).isTrue();
+    }
+
+    @Test
+    void corsHeadersArePreparsed() {
+        final ConfigurationSnapshot configuration = new ConfigurationSnapshot("https://abc.de:8443/fg/hi", 4, 5, 6, 7, 8, 9, 10, true, true);
+
+        assertThat(configuration.getCorsHeaders().getOrigin()).isEqualTo("https://abc.de:8443");
+        assertThat(configuration.getCorsHeaders()).isSameInstanceAs(configuration.getCorsHeaders());
+    }
+
+    @Test
+    void linkRoot() {
+        assertThat(ConfigurationSnapshot.linkRoot("")).isEmpty();
+        assertThat(ConfigurationSnapshot.linkRoot("http://ab.cd/ef?g=h")).isEqualTo("http://ab.cd");
+        assertThat(ConfigurationSnapshot.linkRoot("http://ab.cd/e f")).isEmpty();
+        assertThat(ConfigurationSnapshot.linkRoot("ab.cd/ef")).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CorsHeadersTest {
+
+    @Test
+    void emptyOriginDisablesHeaders() {
+        final CorsHeaders headers = CorsHeaders.forOrigin("");
+        final HttpServletResponse rsp = mock(HttpServletResponse.class);
+
+        headers.addTo(rsp);
+        headers.addPreflightTo(rsp);
+
+        assertThat(headers).isSameInstanceAs(CorsHeaders.NONE);
+        assertThat(headers.isEnabled()).isFalse();
+        assertThat(headers.allows("")).isFalse();
+        verifyNoInteractions(rsp);
+    }
+
+    @Test
+    void allowsOnlyConfiguredOrigin() {
+        final CorsHeaders headers = CorsHeaders.forOrigin("https://abc.de");
+
+        assertThat(headers.allows("https://abc.de")).isTrue();
+        assertThat(headers.allows("https://abc.de:8443")).isFalse();
+        assertThat(headers.allows(null)).isFalse();
+    }
+
+    @Test
+    void responseHeaders() {
+        final HttpServletResponse rsp = mock(HttpServletResponse.class);
+        CorsHeaders.forOrigin("https://abc.de").addTo(rsp);
+
+        verify(rsp).addHeader("Access-Control-Allow-Origin", "https://abc.de");
+        verify(rsp).addHeader("Access-Control-Allow-Credentials", "true");
+        verify(rsp).addHeader("Access-Control-Expose-Headers", "Age, ETag, X-Next-Refresh, X-Generation, X-Stale");
+    }
+
+    @Test
+    void preflightHeaders() {
+        final HttpServletResponse rsp = mock(HttpServletResponse.class);
+        CorsHeaders.forOrigin("https://abc.de").addPreflightTo(rsp);
+
+        verify(rsp).addHeader("Access-Control-Allow-Origin", "https://abc.de");
+        verify(rsp).addHeader("Access-Control-Allow-Credentials", "true");
+        verify(rsp).addHeader("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
+        verify(rsp).addHeader("Access-Control-Allow-Headers", "Content-Type, If-None-Match, Jenkins-Crumb, Authorization, Last-Event-ID");
+        verify(rsp).addHeader("Access-Control-Max-Age", "7200");
+    }
+}
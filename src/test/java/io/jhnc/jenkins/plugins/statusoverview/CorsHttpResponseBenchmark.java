@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+
+@JmhBenchmark
+public class CorsHttpResponseBenchmark {
+    private static final ServletOutputStream DISCARD = new ServletOutputStream() {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            // Writes never block
+        }
+
+        @Override
+        public void write(int b) {
+            // Discarded
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // Discarded
+        }
+    };
+
+    @State(Scope.Benchmark)
+    public static class Responses extends JmhBenchmarkState {
+        @Param({"100", "1000", "10000"})
+        public int count;
+        private Snapshot snapshot;
+        private StaplerRequest2 plainRequest;
+        private StaplerRequest2 gzipRequest;
+        private StaplerResponse2 response;
+
+        @Override
+        public void setup() {
+            Jenkins.get().getDescriptorByType(StatusOverviewConfiguration.DescriptorImpl.class)
+                    .setOverviewLink("https://status.example.org/overview");
+            snapshot = new Snapshot(NodeStatus.toJson(NodeStatusBenchmark.nodes(count)), System.currentTimeMillis());
+            snapshot.getCompressedPayload();
+            plainRequest = proxy(StaplerRequest2.class, null);
+            gzipRequest = proxy(StaplerRequest2.class, "gzip");
+            response = proxy(StaplerResponse2.class, null);
+        }
+    }
+
+    @Benchmark
+    public void generateResponse(Responses responses) throws IOException {
+        CorsHttpResponse.json(responses.snapshot, 0L).generateResponse(responses.plainRequest, responses.response, null);
+    }
+
+    @Benchmark
+    public void generateCompressedResponse(Responses responses) throws IOException {
+        CorsHttpResponse.json(responses.snapshot, 0L).generateResponse(responses.gzipRequest, responses.response, null);
+    }
+
+    @NonNull
+    private static <T> T proxy(@NonNull Class<T> type, @CheckForNull String header) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getOutputStream" -> DISCARD;
+                    case "getHeader" -> header;
+                    default -> method.getReturnType().isPrimitive() && method.getReturnType() != void.class
+                            ? Array.get(Array.newInstance(method.getReturnType(), 1), 0)
+                            : null;
+                }));
+    }
+}
@@ -25,23 +25,29 @@
 package io.jhnc.jenkins.plugins.statusoverview;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
-import jenkins.model.Jenkins;
+import hudson.security.csrf.CrumbIssuer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.interceptor.RequirePOST;
-import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -50,12 +56,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class CorsHttpResponseTest {
     private static final String CONTENT_TYPE = "text/plain";
-    @Mock
-    Jenkins jenkins;
     @Spy
     final ResponseCapture respMock = spy(new ResponseCapture());
-    @Mock
-    StatusOverviewConfiguration.DescriptorImpl descriptor;
+    ConfigurationSnapshot configuration = ConfigurationSnapshot.DEFAULTS;
 
     @Test
     void payloadIsIncluded() throws IOException {
@@ -68,20 +71,19 @@ class CorsHttpResponseTest {
 
     @Test
     void includesAccessControlAllowOriginHeaderIfUrlIsConfigured() throws IOException {
-        when(descriptor.getLinkRoot()).thenReturn("https://abc.de");
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
+        configuration = mock(ConfigurationSnapshot.class);
+        when(configuration.getCorsHeaders()).thenReturn(CorsHeaders.forOrigin("https://abc.de"));
 
         final CorsHttpResponse resp = create(new CorsHttpResponse("x", CONTENT_TYPE));
         resp.generateResponse(null, respMock, null);
 
         verify(respMock).addHeader("Access-Control-Allow-Origin", "https://abc.de");
         verify(respMock).addHeader("Access-Control-Allow-Credentials", "true");
+        verify(respMock).addHeader("Access-Control-Expose-Headers", "Age, ETag, X-Next-Refresh, X-Generation, X-Stale");
     }
 
     @Test
     void doesNotIncludeAccessControlAllowOriginHeaderIfUrlIsNotConfigured() throws IOException {
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(null);
-
         final CorsHttpResponse resp = create(new CorsHttpResponse("x", CONTENT_TYPE));
         resp.generateResponse(null, respMock, null);
 
@@ -91,8 +93,8 @@ class CorsHttpResponseTest {
 
     @Test
     void doesNotIncludeAccessControlAllowOriginHeaderIfUrlIsEmpty() throws IOException {
-        when(descriptor.getLinkRoot()).thenReturn("");
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
+        configuration = mock(ConfigurationSnapshot.class);
+        when(configuration.getCorsHeaders()).thenReturn(CorsHeaders.forOrigin(""));
 
         final CorsHttpResponse resp = create(new CorsHttpResponse("x", CONTENT_TYPE));
         resp.generateResponse(null, respMock, null);
@@ -120,11 +122,247 @@ class CorsHttpResponseTest {
         verify(respMock).setContentType("application/json;charset=UTF-8");
     }
 
+    @Test
+    void textResponseHasNoSnapshotHeaders() throws IOException {
+        final CorsHttpResponse resp = create(new CorsHttpResponse("x", CONTENT_TYPE));
+        resp.generateResponse(null, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("Age"), any());
+        verify(respMock, never()).setHeader(eq("ETag"), any());
+    }
+
+    @Test
+    void snapshotResponseUsesSnapshotTimestamp() throws IOException {
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 10_000L), 60_000L));
+        doReturn(12_000L).when(resp).currentTimeMillis();
+        resp.generateResponse(null, respMock, null);
+
+        assertThat(respMock.getResponseString()).isEqualTo("[]");
+        verify(respMock).setHeader("Age", "2");
+        verify(respMock).setHeader("X-Next-Refresh", "58");
+        verify(respMock).setContentType("application/json;charset=UTF-8");
+    }
+
+    @Test
+    void getResponseIsCacheableUntilRefresh() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("GET");
+        final CrumbIssuer issuer = mock(CrumbIssuer.class);
+        when(issuer.getCrumbRequestField()).thenReturn("X-Crumb");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 10_000L), 60_000L));
+        doReturn(12_000L).when(resp).currentTimeMillis();
+        doReturn(issuer).when(resp).getCrumbIssuer();
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock).setHeader("Cache-Control", "private, max-age=60");
+        verify(respMock).addHeader("Vary", "Accept-Encoding");
+        verify(respMock).addHeader("Vary", "Authorization, Cookie, X-Crumb");
+    }
+
+    @Test
+    void getResponseWithoutCrumbIssuerDoesNotVaryByCrumb() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("GET");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 10_000L), 60_000L));
+        doReturn(null).when(resp).getCrumbIssuer();
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock).addHeader("Vary", "Authorization, Cookie");
+    }
+
+    @Test
+    void overdueGetResponseIsNotFresh() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("GET");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 10_000L), 60_000L));
+        doReturn(100_000L).when(resp).currentTimeMillis();
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock).setHeader("Age", "90");
+        verify(respMock).setHeader("Cache-Control", "private, max-age=90");
+    }
+
+    @Test
+    void postResponseIsNotCacheable() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("POST");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 10_000L), 60_000L));
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("Cache-Control"), any());
+    }
+
+    @Test
+    void notModifiedGetResponseIsCacheable() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]", 10_000L);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("GET");
+        when(req.getHeader("Accept-Encoding")).thenReturn(null);
+        when(req.getHeader("If-None-Match")).thenReturn(snapshot.getETag());
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 60_000L));
+        doReturn(12_000L).when(resp).currentTimeMillis();
+        resp.generateResponse(req, respMock, null);
+
+        assertThat(respMock.getStatus()).isEqualTo(304);
+        verify(respMock).setHeader("Cache-Control", "private, max-age=60");
+    }
+
+    @Test
+    void transientResponseIsNeitherCompressedNorTagged() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getMethod()).thenReturn("GET");
+        final CorsHttpResponse resp = create(CorsHttpResponse.transientJson(new Snapshot("[]", 10_000L), 60_000L));
+        doReturn(12_000L).when(resp).currentTimeMillis();
+        resp.generateResponse(req, respMock, null);
+
+        assertThat(respMock.getResponseString()).isEqualTo("[]");
+        verify(respMock).setHeader("Cache-Control", "private, max-age=60");
+        verify(respMock, never()).setHeader(eq("ETag"), any());
+        verify(respMock, never()).setHeader(eq("Content-Encoding"), any());
+        verify(respMock, never()).addHeader("Vary", "Accept-Encoding");
+    }
+
+    @Test
+    void snapshotResponseIncludesGeneration() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]".getBytes(StandardCharsets.UTF_8), 0L, Map.of(), 7L);
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 0L));
+        resp.generateResponse(null, respMock, null);
+
+        verify(respMock).setHeader("X-Generation", "7");
+    }
+
+    @Test
+    void snapshotResponseWithoutGenerationHasNoGenerationHeader() throws IOException {
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 0L), 0L));
+        resp.generateResponse(null, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("X-Generation"), anyString());
+    }
+
+    @Test
+    void staleSnapshotResponseIncludesStaleHeader() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]".getBytes(StandardCharsets.UTF_8), 0L, Map.of(), 0L, true);
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 0L));
+        resp.generateResponse(null, respMock, null);
+
+        verify(respMock).setHeader("X-Stale", "true");
+    }
+
+    @Test
+    void liveSnapshotResponseHasNoStaleHeader() throws IOException {
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 0L), 0L));
+        resp.generateResponse(null, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("X-Stale"), anyString());
+    }
+
+    @Test
+    void snapshotResponseIsCompressedIfAccepted() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getHeader("Accept-Encoding")).thenReturn("deflate, gzip;q=0.8");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[{\"a\":\"\u00e4\"}]", 0L), 0L));
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock).setHeader("Content-Encoding", "gzip");
+        verify(respMock).addHeader("Vary", "Accept-Encoding");
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(respMock.getResponseBytes()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[{\"a\":\"\u00e4\"}]");
+        }
+    }
+
+    @Test
+    void snapshotResponseIsNotCompressedIfNotAccepted() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getHeader("Accept-Encoding")).thenReturn("gzip;q=0, identity");
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 0L), 0L));
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("Content-Encoding"), any());
+        verify(respMock).addHeader("Vary", "Accept-Encoding");
+        verify(respMock).setContentLength(2);
+        assertThat(respMock.getResponseString()).isEqualTo("[]");
+    }
+
+    @Test
+    void snapshotResponseIsNotCompressedWithoutAcceptEncoding() throws IOException {
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[]", 0L), 0L));
+        resp.generateResponse(mock(StaplerRequest2.class), respMock, null);
+
+        verify(respMock, never()).setHeader(eq("Content-Encoding"), any());
+        assertThat(respMock.getResponseString()).isEqualTo("[]");
+    }
+
+    @Test
+    void snapshotResponseIncludesETag() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]", 0L);
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 0L));
+        resp.generateResponse(mock(StaplerRequest2.class), respMock, null);
+
+        verify(respMock).setHeader("ETag", snapshot.getETag());
+        assertThat(snapshot.getETag()).matches("\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    void snapshotETagDependsOnContent() {
+        assertThat(new Snapshot("[1]", 0L).getETag()).isEqualTo(new Snapshot("[1]", 5L).getETag());
+        assertThat(new Snapshot("[1]", 0L).getETag()).isNotEqualTo(new Snapshot("[2]", 0L).getETag());
+        assertThat(new Snapshot("[1]", 0L).getETag()).isNotEqualTo(new Snapshot("[1]", 0L).getCompressedETag());
+    }
+
+    @Test
+    void snapshotResponseIsNotModifiedIfETagMatches() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]", 0L);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getHeader("Accept-Encoding")).thenReturn(null);
+        when(req.getHeader("If-None-Match")).thenReturn("\"other\", " + snapshot.getETag());
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 0L));
+        resp.generateResponse(req, respMock, null);
+
+        assertThat(respMock.getStatus()).isEqualTo(304);
+        assertThat(respMock.getResponseString()).isEmpty();
+    }
+
+    @Test
+    void snapshotResponseIsNotModifiedIfCompressedETagMatches() throws IOException {
+        final Snapshot snapshot = new Snapshot("[]", 0L);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(req.getHeader("If-None-Match")).thenReturn("W/" + snapshot.getCompressedETag());
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(snapshot, 0L));
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock).setHeader("ETag", snapshot.getCompressedETag());
+        assertThat(respMock.getStatus()).isEqualTo(304);
+        assertThat(respMock.getResponseBytes()).isEmpty();
+    }
+
+    @Test
+    void snapshotResponseIsSentIfETagDiffers() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getHeader("Accept-Encoding")).thenReturn(null);
+        when(req.getHeader("If-None-Match")).thenReturn(new Snapshot("[1]", 0L).getETag());
+        final CorsHttpResponse resp = create(CorsHttpResponse.json(new Snapshot("[2]", 0L), 0L));
+        resp.generateResponse(req, respMock, null);
+
+        assertThat(respMock.getStatus()).isEqualTo(0);
+        assertThat(respMock.getResponseString()).isEqualTo("[2]");
+    }
+
+    @Test
+    void textResponseIsNeverCompressed() throws IOException {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        final CorsHttpResponse resp = create(new CorsHttpResponse("x", CONTENT_TYPE));
+        resp.generateResponse(req, respMock, null);
+
+        verify(respMock, never()).setHeader(eq("Content-Encoding"), any());
+        verify(respMock, never()).addHeader(eq("Vary"), any());
+    }
+
     @RequirePOST
     @NonNull
     private CorsHttpResponse create(@NonNull CorsHttpResponse response) {
         final CorsHttpResponse spy = Mockito.spy(response);
-        doReturn(jenkins).when(spy).getJenkins();
+        doReturn(configuration).when(spy).getConfiguration();
         return spy;
     }
 }
\ No newline at end of file
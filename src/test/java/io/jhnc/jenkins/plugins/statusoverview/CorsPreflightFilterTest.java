@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CorsPreflightFilterTest {
+    private static final String ORIGIN = "https://abc.de";
+    @Mock
+    ConfigurationSnapshot configuration;
+    @Mock
+    HttpServletResponse rsp;
+    @Mock
+    FilterChain chain;
+
+    @Test
+    void preflightIsAnswered() throws IOException, ServletException {
+        final CorsPreflightFilter filter = createSpy(ORIGIN);
+        final HttpServletRequest req = request("OPTIONS", "/jenkins/status-overview/agents", ORIGIN);
+
+        filter.doFilter(req, rsp, chain);
+
+        verify(rsp).setStatus(HttpServletResponse.SC_NO_CONTENT);
+        verify(rsp).addHeader("Access-Control-Allow-Origin", ORIGIN);
+        verify(rsp).addHeader("Access-Control-Max-Age", "7200");
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void preflightFromOtherOriginIsPassedOn() throws IOException, ServletException {
+        final CorsPreflightFilter filter = createSpy(ORIGIN);
+        final HttpServletRequest req = request("OPTIONS", "/jenkins/status-overview/agents", "https://other.de");
+
+        filter.doFilter(req, rsp, chain);
+
+        verify(chain).doFilter(req, rsp);
+        verifyNoInteractions(rsp);
+    }
+
+    @Test
+    void preflightWithoutConfiguredLinkIsPassedOn() throws IOException, ServletException {
+        final CorsPreflightFilter filter = Mockito.spy(CorsPreflightFilter.class);
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(filter).getConfiguration();
+        final HttpServletRequest req = request("OPTIONS", "/jenkins/status-overview/agents", ORIGIN);
+
+        filter.doFilter(req, rsp, chain);
+
+        verify(chain).doFilter(req, rsp);
+    }
+
+    @Test
+    void otherRequestsArePassedOn() throws IOException, ServletException {
+        final CorsPreflightFilter filter = Mockito.spy(CorsPreflightFilter.class);
+        final HttpServletRequest post = mock(HttpServletRequest.class);
+        when(post.getMethod()).thenReturn("POST");
+        final HttpServletRequest options = mock(HttpServletRequest.class);
+        when(options.getMethod()).thenReturn("OPTIONS");
+        final HttpServletRequest otherPath = mock(HttpServletRequest.class);
+        when(otherPath.getMethod()).thenReturn("OPTIONS");
+        when(otherPath.getHeader("Access-Control-Request-Method")).thenReturn("POST");
+        when(otherPath.getContextPath()).thenReturn("/jenkins");
+        when(otherPath.getRequestURI()).thenReturn("/jenkins/manage/");
+
+        filter.doFilter(post, rsp, chain);
+        filter.doFilter(options, rsp, chain);
+        filter.doFilter(otherPath, rsp, chain);
+
+        verify(chain).doFilter(post, rsp);
+        verify(chain).doFilter(options, rsp);
+        verify(chain).doFilter(otherPath, rsp);
+        verify(filter, never()).getConfiguration();
+    }
+
+    @Test
+    void preflightIsAnsweredWithoutContextPath() throws IOException, ServletException {
+        final CorsPreflightFilter filter = createSpy(ORIGIN);
+        final HttpServletRequest req = request("OPTIONS", "/status-overview/plugins", ORIGIN);
+        when(req.getContextPath()).thenReturn("");
+
+        filter.doFilter(req, rsp, chain);
+
+        assertThat(Mockito.mockingDetails(chain).getInvocations()).isEmpty();
+        verify(rsp).setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+
+    @NonNull
+    private CorsPreflightFilter createSpy(@NonNull String origin) {
+        final CorsPreflightFilter filter = Mockito.spy(CorsPreflightFilter.class);
+        doReturn(configuration).when(filter).getConfiguration();
+        when(configuration.getCorsHeaders()).thenReturn(CorsHeaders.forOrigin(origin));
+        return filter;
+    }
+
+    @NonNull
+    private static HttpServletRequest request(@NonNull String method, @NonNull String uri, @NonNull String origin) {
+        final HttpServletRequest req = mock(HttpServletRequest.class);
+        when(req.getMethod()).thenReturn(method);
+        when(req.getHeader("Access-Control-Request-Method")).thenReturn("POST");
+        when(req.getHeader("Origin")).thenReturn(origin);
+        when(req.getContextPath()).thenReturn("/jenkins");
+        when(req.getRequestURI()).thenReturn(uri);
+        return req;
+    }
+}
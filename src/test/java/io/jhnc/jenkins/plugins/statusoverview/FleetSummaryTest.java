@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import hudson.model.Computer;
+import hudson.node_monitors.SwapSpaceMonitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.jvnet.hudson.MemoryUsage;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FleetSummaryTest {
+    @Mock
+    Computer computer;
+
+    @Test
+    void summaryIsNotInitializedByDefault() {
+        final FleetSummary summary = new FleetSummary();
+
+        assertThat(summary.isInitialized()).isFalse();
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":0,\"offline\":0},\"executors\":{\"total\":0,\"busy\":0},"
+                + "\"memory\":{\"total\":0,\"used\":0}}");
+    }
+
+    @Test
+    void updateAddsTotals() {
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.update("agent-1", new FleetSummary.Totals(false, 2, 0, 4000L, 1000L), 20L);
+        assertThat(summary.isInitialized()).isTrue();
+        assertThat(summary.getTimestamp()).isEqualTo(20L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":1,\"offline\":1},\"executors\":{\"total\":6,\"busy\":1},"
+                + "\"memory\":{\"total\":12000,\"used\":3000}}");
+    }
+
+    @Test
+    void updateReplacesPreviousTotals() {
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.update("agent-0", new FleetSummary.Totals(false, 4, 0, 8000L, 3000L), 20L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":0,\"offline\":1},\"executors\":{\"total\":4,\"busy\":0},"
+                + "\"memory\":{\"total\":8000,\"used\":3000}}");
+    }
+
+    @Test
+    void removeSubtractsTotals() {
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.update("agent-1", new FleetSummary.Totals(true, 2, 2, 4000L, 1000L), 10L);
+        summary.remove("agent-0", 20L);
+        summary.remove("agent-2", 20L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":1,\"offline\":0},\"executors\":{\"total\":2,\"busy\":2},"
+                + "\"memory\":{\"total\":4000,\"used\":1000}}");
+    }
+
+    @Test
+    void retainRemovesOtherAgents() {
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.update("agent-1", new FleetSummary.Totals(true, 2, 2, 4000L, 1000L), 10L);
+        summary.retain(Set.of("agent-1"), 20L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":1,\"offline\":0},\"executors\":{\"total\":2,\"busy\":2},"
+                + "\"memory\":{\"total\":4000,\"used\":1000}}");
+    }
+
+    @Test
+    void refreshUpdatesOrRemovesAgent() {
+        when(computer.getNumExecutors()).thenReturn(2);
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.refresh("agent-1", computer, 20L);
+        summary.refresh("agent-0", null, 30L);
+        assertThat(summary.getTimestamp()).isEqualTo(30L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":1,\"offline\":0},\"executors\":{\"total\":2,\"busy\":0},"
+                + "\"memory\":{\"total\":0,\"used\":0}}");
+    }
+
+    @Test
+    void reconcileReplacesAllAgents() {
+        when(computer.isOffline()).thenReturn(true);
+        when(computer.getNumExecutors()).thenReturn(1);
+        final FleetSummary summary = new FleetSummary();
+
+        summary.update("agent-0", new FleetSummary.Totals(true, 4, 1, 8000L, 2000L), 10L);
+        summary.reconcile(Map.of("agent-1", computer), 20L);
+        assertThat(json(summary)).isEqualTo("{\"agents\":{\"online\":0,\"offline\":1},\"executors\":{\"total\":1,\"busy\":0},"
+                + "\"memory\":{\"total\":0,\"used\":0}}");
+    }
+
+    @Test
+    void totalsFromComputer() {
+        when(computer.isOffline()).thenReturn(false);
+        when(computer.getNumExecutors()).thenReturn(4);
+        when(computer.countBusy()).thenReturn(3);
+        when(computer.getMonitorData()).thenReturn(Map.of("hudson.node_monitors.SwapSpaceMonitor",
+                new SwapSpaceMonitor.MemoryUsage2(new MemoryUsage(8000L, 6000L, 0L, 0L))));
+
+        assertThat(FleetSummary.Totals.from(computer)).isEqualTo(new FleetSummary.Totals(true, 4, 3, 8000L, 2000L));
+    }
+
+    @Test
+    void totalsFromComputerWithoutMonitorData() {
+        when(computer.isOffline()).thenReturn(true);
+        when(computer.getNumExecutors()).thenReturn(1);
+
+        assertThat(FleetSummary.Totals.from(computer)).isEqualTo(new FleetSummary.Totals(false, 1, 0, 0L, 0L));
+    }
+
+    private static String json(FleetSummary summary) {
+        return new String(summary.toJson(), StandardCharsets.UTF_8);
+    }
+}
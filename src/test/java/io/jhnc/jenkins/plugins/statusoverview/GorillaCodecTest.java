@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GorillaCodecTest {
+    private static final long START = 1_760_000_000_000L;
+    private static final long MIB = 1L << 20;
+
+    @Test
+    void emptySamples() throws IOException {
+        assertThat(GorillaCodec.encode(List.of())).isEmpty();
+        assertThat(GorillaCodec.decode(ByteBuffer.allocate(0), 0)).isEmpty();
+    }
+
+    @Test
+    void samplesRoundTrip() throws IOException {
+        final List<HistorySample> samples = List.of(
+                new HistorySample(START, true, 4, 1, 3_000 * MIB),
+                new HistorySample(START + 300_000L, true, 4, 3, 3_100 * MIB),
+                new HistorySample(START + 601_000L, false, 4, 0, 0L),
+                new HistorySample(START + 900_000L, true, 8, 8, 12_345 * MIB),
+                new HistorySample(START + 86_400_000L, true, 8, 2, 12_345 * MIB),
+                new HistorySample(START + 86_401_000L, true, 8, 2, Integer.MAX_VALUE * MIB));
+
+        assertThat(decode(GorillaCodec.encode(samples), samples.size())).containsExactlyElementsIn(samples).inOrder();
+    }
+
+    @Test
+    void memoryIsStoredInMebibytes() throws IOException {
+        final List<HistorySample> samples = List.of(new HistorySample(START, true, 1, 0, 5 * MIB + 1234L));
+
+        assertThat(decode(GorillaCodec.encode(samples), 1).getFirst().usedMemory()).isEqualTo(5 * MIB);
+    }
+
+    @Test
+    void timestampsHaveSecondPrecision() throws IOException {
+        final List<HistorySample> samples = List.of(new HistorySample(START + 999L, true, 1, 0, 0L));
+
+        assertThat(decode(GorillaCodec.encode(samples), 1).getFirst().timestamp()).isEqualTo(START);
+    }
+
+    @Test
+    void regularSamplesCompressToFewBits() throws IOException {
+        final List<HistorySample> samples = new ArrayList<>();
+
+        for (int i = 0; i < 288; i++) {
+            samples.add(new HistorySample(START + i * 300_000L, true, 4, i % 2, 2_048 * MIB));
+        }
+
+        final byte[] encoded = GorillaCodec.encode(samples);
+        assertThat(encoded.length).isLessThan(288);
+        assertThat(decode(encoded, samples.size())).containsExactlyElementsIn(samples).inOrder();
+    }
+
+    @Test
+    void truncatedDataThrows() {
+        final List<HistorySample> samples = List.of(new HistorySample(START, true, 4, 1, 3_000 * MIB),
+                new HistorySample(START + 300_000L, false, 4, 0, 0L));
+        final byte[] encoded = GorillaCodec.encode(samples);
+
+        assertThrows(IOException.class, () -> decode(Arrays.copyOf(encoded, encoded.length - 2), samples.size()));
+    }
+
+    private static List<HistorySample> decode(byte[] encoded, int count) throws IOException {
+        return GorillaCodec.decode(ByteBuffer.wrap(encoded), count);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class HistogramTest {
+    @Test
+    void observeCountsValuesPerBucket() {
+        final Histogram histogram = new Histogram(1, 5, 10);
+
+        histogram.observe(0.5);
+        histogram.observe(1);
+        histogram.observe(7);
+        histogram.observe(20);
+        assertThat(histogram.getCount()).isEqualTo(4);
+        assertThat(histogram.getSum()).isEqualTo(28.5);
+    }
+
+    @Test
+    void writeToUsesCumulativeBuckets() {
+        final Histogram histogram = new Histogram(10, 1, 5);
+        final StringBuilder out = new StringBuilder();
+
+        histogram.observe(0.5);
+        histogram.observe(1);
+        histogram.observe(7);
+        histogram.observe(20);
+        histogram.writeTo(out, "latency", "endpoint=\"agents\"");
+        assertThat(out.toString()).isEqualTo("""
+                latency_bucket{endpoint="agents",le="1"} 2
+                latency_bucket{endpoint="agents",le="5"} 2
+                latency_bucket{endpoint="agents",le="10"} 3
+                latency_bucket{endpoint="agents",le="+Inf"} 4
+                latency_sum{endpoint="agents"} 28.5
+                latency_count{endpoint="agents"} 4
+                """);
+    }
+
+    @Test
+    void writeToWithoutLabels() {
+        final Histogram histogram = new Histogram(0.5);
+        final StringBuilder out = new StringBuilder();
+
+        histogram.writeTo(out, "latency", "");
+        assertThat(out.toString()).isEqualTo("""
+                latency_bucket{le="0.5"} 0
+                latency_bucket{le="+Inf"} 0
+                latency_sum 0
+                latency_count 0
+                """);
+    }
+
+    @Test
+    void formatValues() {
+        assertThat(Histogram.format(1024)).isEqualTo("1024");
+        assertThat(Histogram.format(0.025)).isEqualTo("0.025");
+        assertThat(Histogram.format(2.5)).isEqualTo("2.5");
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HistoryArchiveTest {
+    private static final long DAY = 86_400_000L;
+    private static final long START = 20_000 * DAY;
+    private static final FleetSummary.Totals ONLINE = new FleetSummary.Totals(true, 4, 1, 8L << 30, 3L << 30);
+    private static final FleetSummary.Totals OFFLINE = new FleetSummary.Totals(false, 4, 0, 0L, 0L);
+    @TempDir
+    Path dir;
+
+    @Test
+    void flushIsDueOnceBlockIsComplete() {
+        final HistoryArchive archive = new HistoryArchive();
+        assertThat(archive.isFlushDue(START + DAY)).isFalse();
+
+        archive.add(START + 60_000L, Map.of("agent-0", ONLINE));
+        assertThat(archive.isFlushDue(START + 120_000L)).isFalse();
+        assertThat(archive.isFlushDue(START + HistoryArchive.BLOCK_MS)).isTrue();
+    }
+
+    @Test
+    void readReturnsPendingSamples() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+
+        assertThat(archive.read(dir.resolve("history"), "agent-0", 0L, Long.MAX_VALUE))
+                .containsExactly(new HistorySample(START, true, 4, 1, 3L << 30));
+    }
+
+    @Test
+    void flushedSamplesAreReadFromSegments() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE, "agent-1", OFFLINE));
+        archive.flush(dir);
+        archive.add(START + HistoryArchive.BLOCK_MS, Map.of("agent-0", OFFLINE));
+        archive.flush(dir);
+
+        assertThat(segments()).containsExactly(day(START) + ".seg");
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).containsExactly(
+                new HistorySample(START, true, 4, 1, 3L << 30),
+                new HistorySample(START + HistoryArchive.BLOCK_MS, false, 4, 0, 0L)).inOrder();
+        assertThat(archive.read(dir, "agent-1", 0L, Long.MAX_VALUE)).containsExactly(new HistorySample(START, false, 4, 0, 0L));
+        assertThat(archive.isFlushDue(START + DAY)).isFalse();
+    }
+
+    @Test
+    void readFiltersByRange() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+
+        for (int i = 0; i < 3; i++) {
+            archive.add(START + i * DAY, Map.of("agent-0", ONLINE));
+        }
+        archive.flush(dir);
+
+        assertThat(segments()).hasSize(3);
+        assertThat(archive.read(dir, "agent-0", START + DAY, START + DAY).stream().map(HistorySample::timestamp).toList())
+                .containsExactly(START + DAY);
+        assertThat(archive.read(dir, "agent-2", 0L, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void readIgnoresTruncatedBlock() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        Files.write(dir.resolve(day(START) + ".seg"), new byte[]{0, 7, 'a', 'g'}, StandardOpenOption.APPEND);
+
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(1);
+    }
+
+    @Test
+    void readSkipsCorruptTail() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        final Path segment = dir.resolve(day(START) + ".seg");
+        final byte[] block = Files.readAllBytes(segment);
+        block[block.length - 1] ^= 1;
+        Files.write(segment, block, StandardOpenOption.APPEND);
+
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(1);
+    }
+
+    @Test
+    void readSkipsBlockWithImplausibleCount() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        final Path segment = dir.resolve(day(START) + ".seg");
+        final byte[] block = Files.readAllBytes(segment);
+        final int count = Integer.BYTES + Short.BYTES + "agent-0".length();
+        block[count] = 0x7f;
+        Files.write(segment, block);
+
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void flushTruncatesCorruptTail() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        Files.write(dir.resolve(day(START) + ".seg"), new byte[]{'H', 'S', 'B', '1', 0, 7, 'a', 'g'}, StandardOpenOption.APPEND);
+        archive.add(START + HistoryArchive.BLOCK_MS, Map.of("agent-0", OFFLINE));
+        archive.flush(dir);
+
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(2);
+    }
+
+    @Test
+    void compactionSkipsCorruptTail() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        Files.write(dir.resolve(day(START) + ".seg"), new byte[]{'H', 'S', 'B', '1', 0, 7, 'a', 'g'}, StandardOpenOption.APPEND);
+
+        archive.maintain(dir, START + 2 * DAY, 30, 1);
+        assertThat(segments()).containsExactly(day(START) + ".cseg");
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(1);
+    }
+
+    @Test
+    void readIgnoresMissingDirectoryAndUnknownFiles() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        assertThat(archive.read(dir.resolve("missing"), "agent-0", 0L, Long.MAX_VALUE)).isEmpty();
+
+        Files.writeString(dir.resolve("invalid.seg"), "invalid");
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void maintainDeletesSegmentsAfterRetention() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.add(START + 5 * DAY, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+
+        archive.maintain(dir, START + 5 * DAY, 3, 10);
+
+        assertThat(segments()).containsExactly(day(START + 5 * DAY) + ".seg");
+    }
+
+    @Test
+    void maintainCompactsOldSegments() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+
+        for (int i = 0; i < 24; i++) {
+            archive.add(START + i * HistoryArchive.BLOCK_MS, Map.of("agent-0", i % 2 == 0 ? ONLINE : OFFLINE, "agent-1", ONLINE));
+            archive.flush(dir);
+        }
+        archive.add(START + DAY, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        final List<HistorySample> before = archive.read(dir, "agent-0", 0L, Long.MAX_VALUE);
+        final long size = Files.size(dir.resolve(day(START) + ".seg"));
+
+        archive.maintain(dir, START + DAY, 30, 1);
+
+        assertThat(segments()).containsExactly(day(START) + ".cseg", day(START + DAY) + ".seg");
+        assertThat(Files.size(dir.resolve(day(START) + ".cseg"))).isLessThan(size);
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).containsExactlyElementsIn(before).inOrder();
+        assertThat(archive.read(dir, "agent-1", 0L, Long.MAX_VALUE)).hasSize(24);
+    }
+
+    @Test
+    void compactionMergesLateSamples() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.flush(dir);
+        archive.maintain(dir, START + DAY, 30, 1);
+        archive.add(START + 60_000L, Map.of("agent-0", OFFLINE));
+        archive.flush(dir);
+
+        archive.maintain(dir, START + DAY, 30, 1);
+
+        assertThat(segments()).containsExactly(day(START) + ".cseg");
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(2);
+    }
+
+    @Test
+    void segmentLeftOverByCompactionIsNotReadTwice() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.add(START + 60_000L, Map.of("agent-0", OFFLINE));
+        archive.flush(dir);
+        final Path segment = dir.resolve(day(START) + ".seg");
+        final byte[] blocks = Files.readAllBytes(segment);
+        archive.maintain(dir, START + DAY, 30, 1);
+        Files.write(segment, blocks);
+
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(2);
+
+        archive.maintain(dir, START + DAY, 30, 1);
+        assertThat(segments()).containsExactly(day(START) + ".cseg");
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).hasSize(2);
+    }
+
+    @Test
+    void failedFlushDoesNotAppendWrittenDaysAgain() throws IOException {
+        final HistoryArchive archive = new HistoryArchive();
+        archive.add(START, Map.of("agent-0", ONLINE));
+        archive.add(START + DAY, Map.of("agent-0", OFFLINE));
+        final Path blocked = Files.createDirectories(dir.resolve(day(START + DAY) + ".seg"));
+
+        assertThrows(IOException.class, () -> archive.flush(dir));
+        final long size = Files.size(dir.resolve(day(START) + ".seg"));
+        Files.delete(blocked);
+        archive.flush(dir);
+
+        assertThat(Files.size(dir.resolve(day(START) + ".seg"))).isEqualTo(size);
+        assertThat(archive.read(dir, "agent-0", 0L, Long.MAX_VALUE)).containsExactly(
+                new HistorySample(START, true, 4, 1, 3L << 30),
+                new HistorySample(START + DAY, false, 4, 0, 0L)).inOrder();
+        assertThat(archive.isFlushDue(START + 2 * DAY)).isFalse();
+    }
+
+    @Test
+    void toJsonWritesColumns() {
+        final List<HistorySample> samples = List.of(new HistorySample(1_000L, true, 4, 1, 2048L),
+                new HistorySample(2_000L, false, 4, 0, 0L));
+
+        assertThat(new String(HistoryArchive.toJson("agent-0", 0L, 5_000L, samples), StandardCharsets.UTF_8))
+                .isEqualTo("{\"node\":\"agent-0\",\"from\":0,\"to\":5000,\"timestamps\":[1000,2000],\"online\":[true,false],"
+                        + "\"executors\":[4,4],\"busyExecutors\":[1,0],\"usedMemory\":[2048,0]}");
+    }
+
+    @NonNull
+    private List<String> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @NonNull
+    private static String day(long timestamp) {
+        return LocalDate.ofEpochDay(timestamp / DAY).toString();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class HistorySegmentTest {
+    private static final HistorySample ONLINE = new HistorySample(1_700_000_000_000L, true, 4, 1, 3L << 30);
+    private static final HistorySample OFFLINE = new HistorySample(1_700_000_300_000L, false, 4, 0, 0L);
+    @TempDir
+    Path dir;
+
+    @Test
+    void blocksRoundTrip() throws IOException {
+        final Path file = dir.resolve("a.seg");
+        HistorySegment.write(file, Map.of("agent-0", List.of(ONLINE, OFFLINE)));
+
+        final List<HistorySegment.Block> blocks = HistorySegment.read(file);
+        assertThat(blocks).hasSize(1);
+        assertThat(new String(blocks.getFirst().name(), StandardCharsets.UTF_8)).isEqualTo("agent-0");
+        assertThat(blocks.getFirst().first()).isEqualTo(ONLINE.timestamp());
+        assertThat(blocks.getFirst().last()).isEqualTo(OFFLINE.timestamp());
+        assertThat(blocks.getFirst().decode()).containsExactly(ONLINE, OFFLINE).inOrder();
+    }
+
+    @Test
+    void readStopsAtChecksumMismatch() throws IOException {
+        final Path file = dir.resolve("a.seg");
+        HistorySegment.write(file, Map.of("agent-0", List.of(ONLINE)));
+        final byte[] block = Files.readAllBytes(file);
+        HistorySegment.append(file, Map.of("agent-1", List.of(OFFLINE)));
+        final byte[] corrupt = Files.readAllBytes(file);
+        corrupt[block.length + Integer.BYTES + Short.BYTES] ^= 1;
+        Files.write(file, corrupt);
+
+        assertThat(HistorySegment.read(file)).hasSize(1);
+    }
+
+    @Test
+    void appendTruncatesGarbage() throws IOException {
+        final Path file = dir.resolve("a.seg");
+        HistorySegment.write(file, Map.of("agent-0", List.of(ONLINE)));
+        Files.write(file, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        HistorySegment.append(file, Map.of("agent-0", List.of(OFFLINE)));
+
+        assertThat(HistorySegment.read(file).stream().map(HistorySegment.Block::first).toList())
+                .containsExactly(ONLINE.timestamp(), OFFLINE.timestamp()).inOrder();
+    }
+
+    @Test
+    void readDecodesOnlyMatchingBlocks() throws IOException {
+        final Path file = dir.resolve("a.seg");
+        HistorySegment.write(file, Map.of("agent-0", List.of(ONLINE), "agent-1", List.of(OFFLINE)));
+        HistorySegment.append(file, Map.of("agent-0", List.of(OFFLINE)));
+        final byte[] name = "agent-0".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(HistorySegment.read(file, name, 0L, Long.MAX_VALUE)).containsExactly(ONLINE, OFFLINE).inOrder();
+        assertThat(HistorySegment.read(file, name, OFFLINE.timestamp(), Long.MAX_VALUE)).containsExactly(OFFLINE);
+    }
+}
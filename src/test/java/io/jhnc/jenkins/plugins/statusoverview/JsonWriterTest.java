@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import groovy.json.JsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class JsonWriterTest {
+    @Test
+    void writesEmptyArray() {
+        assertThat(json(new JsonWriter().beginArray().endArray())).isEqualTo("[]");
+    }
+
+    @Test
+    void writesObjectsWithFields() {
+        final JsonWriter writer = new JsonWriter().beginArray()
+                .beginObject().field("a", "1").field("b", "2").endObject()
+                .beginObject().endObject()
+                .beginObject().field("c", "3").endObject()
+                .endArray();
+
+        assertThat(json(writer)).isEqualTo("[{\"a\":\"1\",\"b\":\"2\"},{},{\"c\":\"3\"}]");
+    }
+
+    @Test
+    void writesNullValue() {
+        assertThat(json(new JsonWriter().beginObject().field("a", null).endObject())).isEqualTo("{\"a\":null}");
+    }
+
+    @Test
+    void writesNumbersBooleansAndNestedValues() {
+        final JsonWriter writer = new JsonWriter().beginObject()
+                .field("n", 42L)
+                .field("b", false)
+                .name("o").beginObject().field("a", "1").endObject()
+                .name("l").beginArray().value("x").value("y").endArray()
+                .endObject();
+
+        assertThat(json(writer)).isEqualTo("{\"n\":42,\"b\":false,\"o\":{\"a\":\"1\"},\"l\":[\"x\",\"y\"]}");
+    }
+
+    @Test
+    void writesNumberAndBooleanArrayValues() {
+        final JsonWriter writer = new JsonWriter().beginArray().value(1L).value(true).value(-2L).endArray();
+
+        assertThat(json(writer)).isEqualTo("[1,true,-2]");
+    }
+
+    @Test
+    void writesRawValues() {
+        final JsonWriter writer = new JsonWriter().beginObject()
+                .name("a").raw("[1,2]".getBytes(StandardCharsets.UTF_8))
+                .name("b").raw("{}".getBytes(StandardCharsets.UTF_8))
+                .endObject();
+
+        assertThat(json(writer)).isEqualTo("{\"a\":[1,2],\"b\":{}}");
+    }
+
+    @Test
+    void escapesLikeJsonBuilder() {
+        final String value = "q\"b\\s/\n\t\r\b\f\u0001\u007f~é€ 😀";
+        final Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("k\"ey", value);
+
+        final JsonWriter writer = new JsonWriter().beginArray().beginObject().field("k\"ey", value).endObject().endArray();
+        assertThat(json(writer)).isEqualTo(new JsonBuilder(List.of(expected)).toString());
+    }
+
+    @Test
+    void outputIsAscii() {
+        final byte[] bytes = new JsonWriter().beginObject().field("a", "äöü").endObject().toByteArray();
+        assertThat(new String(bytes, StandardCharsets.US_ASCII)).isEqualTo("{\"a\":\"\\u00e4\\u00f6\\u00fc\"}");
+    }
+
+    private static String json(JsonWriter writer) {
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -39,7 +39,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -158,6 +162,46 @@ class NodeComputerDetailsTest {
         assertThat(details.getJavaVersion()).isEqualTo("<unknown>");
     }
 
+    @Test
+    void detailsFromAgentInfo() throws IOException, InterruptedException {
+        final AgentInfoCache cache = mock(AgentInfoCache.class);
+        when(cache.get(computer)).thenReturn(new AgentInfo("OpenJDK Runtime Environment", "21.0.1+12-LTS", "Linux",
+                "amd64"));
+        when(computer.getHostName()).thenReturn("Agent-0");
+
+        final NodeComputerDetails details = new NodeComputerDetails(computer, cache);
+        assertThat(details.getHostname()).isEqualTo("agent-0");
+        assertThat(details.getOperatingSystem()).isEqualTo("Linux (amd64)");
+        assertThat(details.getJavaVersion()).isEqualTo("OpenJDK Runtime Environment 21.0.1+12-LTS");
+        verify(cache, times(1)).get(computer);
+        verify(computer, never()).getSystemProperties();
+    }
+
+    @Test
+    void detailsFallBackIfNoAgentInfo() throws IOException, InterruptedException {
+        final AgentInfoCache cache = mock(AgentInfoCache.class);
+        when(cache.get(computer)).thenReturn(null);
+        when(computer.getHostName()).thenReturn("agent-0");
+        when(computer.getSystemProperties()).thenReturn(Map.of("java.runtime.name", "OpenJDK Runtime Environment",
+                "java.runtime.version", "21.0.1+12-LTS"));
+
+        final NodeComputerDetails details = new NodeComputerDetails(computer, cache);
+        assertThat(details.getHostname()).isEqualTo("agent-0");
+        assertThat(details.getJavaVersion()).isEqualTo("OpenJDK Runtime Environment 21.0.1+12-LTS");
+    }
+
+    @Test
+    void detailsFallBackIfAgentInfoIncomplete() throws IOException, InterruptedException {
+        final AgentInfoCache cache = mock(AgentInfoCache.class);
+        when(cache.get(computer)).thenReturn(new AgentInfo(null, null, null, null));
+        when(computer.getHostName()).thenReturn("agent-0");
+
+        final NodeComputerDetails details = new NodeComputerDetails(computer, cache);
+        assertThat(details.getHostname()).isEqualTo("agent-0");
+        assertThat(details.getJavaVersion()).isEqualTo("<unknown> <unknown>");
+        assertThat(details.getOperatingSystem()).isEqualTo("<unknown>");
+    }
+
     @Test
     void coreVersionReturnsJenkinsVersion() {
         final NodeComputerDetails details = spy(new NodeComputerDetails(computer));
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NodeFieldTest {
+    @Test
+    void parseReturnsAllAvailableIfNotSet() {
+        assertThat(NodeField.parse(null, NodeField.AGENT)).isEqualTo(NodeField.AGENT);
+        assertThat(NodeField.parse(" ", NodeField.MASTER)).isEqualTo(NodeField.MASTER);
+    }
+
+    @Test
+    void parseSelectsFields() {
+        assertThat(NodeField.parse("status, name", NodeField.AGENT)).containsExactly(NodeField.NAME, NodeField.STATUS);
+    }
+
+    @Test
+    void parseIsIndependentOfOrderAndDuplicates() {
+        assertThat(NodeField.parse("name,status,name", NodeField.AGENT))
+                .isEqualTo(NodeField.parse("status,name", NodeField.AGENT));
+    }
+
+    @Test
+    void parseRejectsUnknownField() {
+        assertThrows(IllegalArgumentException.class, () -> NodeField.parse("name,unknown", NodeField.AGENT));
+    }
+
+    @Test
+    void parseRejectsUnavailableField() {
+        assertThrows(IllegalArgumentException.class, () -> NodeField.parse("coreVersion", NodeField.AGENT));
+        assertThrows(IllegalArgumentException.class, () -> NodeField.parse("status", NodeField.MASTER));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class NodeHistoryTest {
+    private static final FleetSummary.Totals ONLINE = new FleetSummary.Totals(true, 4, 1, 8L << 30, 3L << 30);
+    private static final FleetSummary.Totals OFFLINE = new FleetSummary.Totals(false, 4, 0, 0L, 0L);
+
+    @Test
+    void capacityFromRetention() {
+        assertThat(NodeHistory.capacity(24)).isEqualTo(288);
+        assertThat(NodeHistory.capacity(1)).isEqualTo(12);
+    }
+
+    @Test
+    void unknownNodeHasNoHistory() {
+        final NodeHistory history = new NodeHistory();
+        history.record(1_000L, Map.of("agent-0", ONLINE), 4);
+
+        assertThat(history.toJson("agent-1", 0L)).isNull();
+        assertThat(history.size()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsSamples() {
+        final NodeHistory history = new NodeHistory();
+        history.record(1_000L, Map.of("agent-0", ONLINE), 4);
+        history.record(2_000L, Map.of("agent-0", OFFLINE), 4);
+
+        assertThat(json(history, "agent-0", 0L)).isEqualTo("{\"node\":\"agent-0\",\"interval\":300,"
+                + "\"timestamps\":[1000,2000],\"online\":[true,false],\"executors\":[4,4],\"busyExecutors\":[1,0],"
+                + "\"usedMemory\":[3221225472,0]}");
+        assertThat(history.getTimestamp()).isEqualTo(2_000L);
+    }
+
+    @Test
+    void samplesBeforeFromAreSkipped() {
+        final NodeHistory history = new NodeHistory();
+        history.record(1_000L, Map.of("agent-0", ONLINE), 4);
+        history.record(2_000L, Map.of("agent-0", OFFLINE), 4);
+
+        assertThat(json(history, "agent-0", 1_500L)).contains("\"timestamps\":[2000],\"online\":[false]");
+    }
+
+    @Test
+    void oldestSamplesAreOverwritten() {
+        final NodeHistory history = new NodeHistory();
+
+        for (int i = 1; i <= 5; i++) {
+            history.record(i * 1_000L, Map.of("agent-0", ONLINE), 3);
+        }
+        assertThat(json(history, "agent-0", 0L)).contains("\"timestamps\":[3000,4000,5000]");
+    }
+
+    @Test
+    void samplesOfMissingAgentsAreSkipped() {
+        final NodeHistory history = new NodeHistory();
+        history.record(1_000L, Map.of("agent-0", ONLINE), 4);
+        history.record(2_000L, agents("agent-0", ONLINE, "agent-1", OFFLINE), 4);
+
+        assertThat(json(history, "agent-1", 0L)).contains("\"timestamps\":[2000],\"online\":[false]");
+    }
+
+    @Test
+    void removedAgentsAreDropped() {
+        final NodeHistory history = new NodeHistory();
+        history.record(1_000L, agents("agent-0", ONLINE, "agent-1", ONLINE), 4);
+        history.record(2_000L, Map.of("agent-0", ONLINE), 4);
+
+        assertThat(history.toJson("agent-1", 0L)).isNull();
+        assertThat(history.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shrinkingKeepsNewestSamples() {
+        final NodeHistory history = new NodeHistory();
+
+        for (int i = 1; i <= 5; i++) {
+            history.record(i * 1_000L, Map.of("agent-0", i % 2 == 0 ? OFFLINE : ONLINE), 4);
+        }
+        history.record(6_000L, Map.of("agent-0", OFFLINE), 2);
+
+        assertThat(json(history, "agent-0", 0L)).contains("\"timestamps\":[5000,6000],\"online\":[true,false]");
+    }
+
+    @Test
+    void growingKeepsAllSamples() {
+        final NodeHistory history = new NodeHistory();
+
+        for (int i = 1; i <= 3; i++) {
+            history.record(i * 1_000L, Map.of("agent-0", ONLINE), 2);
+        }
+        history.record(4_000L, Map.of("agent-0", OFFLINE), 4);
+        history.record(5_000L, Map.of("agent-0", OFFLINE), 4);
+
+        assertThat(json(history, "agent-0", 0L)).contains("\"timestamps\":[2000,3000,4000,5000],"
+                + "\"online\":[true,true,false,false]");
+    }
+
+    @Test
+    void emptyHistoryHasNoTimestamp() {
+        assertThat(new NodeHistory().getTimestamp()).isEqualTo(0L);
+    }
+
+    @NonNull
+    private static String json(@NonNull NodeHistory history, @NonNull String name, long from) {
+        return new String(history.toJson(name, from), StandardCharsets.UTF_8);
+    }
+
+    @NonNull
+    private static Map<String, FleetSummary.Totals> agents(@NonNull String name0, @NonNull FleetSummary.Totals totals0,
+                                                           @NonNull String name1, @NonNull FleetSummary.Totals totals1) {
+        final Map<String, FleetSummary.Totals> agents = new LinkedHashMap<>();
+        agents.put(name0, totals0);
+        agents.put(name1, totals1);
+        return agents;
+    }
+}
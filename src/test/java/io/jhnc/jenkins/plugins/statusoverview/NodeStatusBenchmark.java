@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Computer;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@JmhBenchmark
+public class NodeStatusBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Agents {
+        @Param({"100", "1000", "10000"})
+        public int count;
+        private List<NodeComputerDetails> details;
+        private List<NodeStatus> nodes;
+
+        @Setup
+        public void setup() {
+            final Computer computer = Mockito.mock(Computer.class);
+            details = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                details.add(new SyntheticDetails(computer, i));
+            }
+            nodes = nodes(count);
+        }
+    }
+
+    @Benchmark
+    public void collect(Agents agents, Blackhole blackhole) {
+        for (final NodeComputerDetails details : agents.details) {
+            blackhole.consume(NodeStatus.from(details, NodeField.AGENT));
+        }
+    }
+
+    @Benchmark
+    public void toJson(Agents agents, Blackhole blackhole) {
+        blackhole.consume(NodeStatus.toJson(agents.nodes));
+    }
+
+    @Benchmark
+    public void collectAndSerialize(Agents agents, Blackhole blackhole) {
+        final List<NodeStatus> nodes = new ArrayList<>(agents.count);
+
+        for (final NodeComputerDetails details : agents.details) {
+            nodes.add(NodeStatus.from(details, NodeField.AGENT));
+        }
+        blackhole.consume(NodeStatus.toJson(nodes));
+    }
+
+    @NonNull
+    static List<NodeStatus> nodes(int count) {
+        final List<NodeStatus> nodes = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            nodes.add(new NodeStatus(i % 8, "12/32 GB", "OpenJDK Runtime Environment 21.0.1+12-LTS",
+                    "agent-" + i + ".example.org", "Linux (amd64)", i % 10 == 0 ? "Offline (Disconnected by admin)" : "Online",
+                    null));
+        }
+        return nodes;
+    }
+
+    private static final class SyntheticDetails extends NodeComputerDetails {
+        private final int index;
+
+        SyntheticDetails(@NonNull Computer computer, int index) {
+            super(computer);
+            this.index = index;
+        }
+
+        @NonNull
+        @Override
+        public String getHostname() {
+            return "agent-" + index + ".example.org";
+        }
+
+        @NonNull
+        @Override
+        public String getOperatingSystem() {
+            return "Linux (amd64)";
+        }
+
+        @Override
+        public int getNumExecutors() {
+            return index % 8;
+        }
+
+        @Override
+        public boolean isOffline() {
+            return index % 10 == 0;
+        }
+
+        @NonNull
+        @Override
+        public String getOfflineCauseReason() {
+            return "Disconnected by admin";
+        }
+
+        @NonNull
+        @Override
+        public String getMemoryUtilization() {
+            return "12/32 GB";
+        }
+
+        @NonNull
+        @Override
+        public String getJavaVersion() {
+            return "OpenJDK Runtime Environment 21.0.1+12-LTS";
+        }
+    }
+}
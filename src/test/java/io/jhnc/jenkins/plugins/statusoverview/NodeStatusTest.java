@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NodeStatusTest {
+    @Mock
+    NodeComputerDetails details;
+
+    @Test
+    void fromAgent() {
+        stubDetails();
+        when(details.isOffline()).thenReturn(true);
+        when(details.getOfflineCauseReason()).thenReturn("a reason");
+
+        final NodeStatus status = NodeStatus.from(details, NodeField.AGENT);
+        assertThat(status.name()).isEqualTo("agent-0");
+        assertThat(status.status()).isEqualTo("Offline (a reason)");
+        assertThat(status.coreVersion()).isNull();
+    }
+
+    @Test
+    void fromMaster() {
+        stubDetails();
+        when(details.getCoreVersion()).thenReturn("1.2.3");
+
+        final NodeStatus status = NodeStatus.from(details, NodeField.MASTER);
+        assertThat(status.coreVersion()).isEqualTo("1.2.3");
+        assertThat(status.status()).isNull();
+    }
+
+    @Test
+    void fromSkipsFieldsNotSelected() {
+        when(details.getHostname()).thenReturn("agent-0");
+        when(details.isOffline()).thenReturn(false);
+
+        final NodeStatus status = NodeStatus.from(details, EnumSet.of(NodeField.NAME, NodeField.STATUS));
+        assertThat(status).isEqualTo(new NodeStatus(null, null, null, "agent-0", null, "Online", null));
+        verify(details, never()).getJavaVersion();
+        verify(details, never()).getMemoryUtilization();
+        verify(details, never()).getOperatingSystem();
+        verify(details, never()).getNumExecutors();
+    }
+
+    @Test
+    void unavailableAgent() {
+        final NodeStatus status = NodeStatus.unavailable("agent-0", 2, "timed out", NodeField.AGENT);
+        assertThat(status).isEqualTo(new NodeStatus(2, "<unknown>", "<unknown>", "agent-0", "<unknown>",
+                "Unavailable (timed out)", null));
+    }
+
+    @Test
+    void unavailableSkipsFieldsNotSelected() {
+        final NodeStatus status = NodeStatus.unavailable("agent-0", 2, "circuit open", EnumSet.of(NodeField.STATUS));
+        assertThat(status).isEqualTo(new NodeStatus(null, null, null, null, null, "Unavailable (circuit open)", null));
+    }
+
+    @Test
+    void writeToAgent() {
+        final NodeStatus status = new NodeStatus(3, "2/8 GB", "11.2.3", "agent-0", "Linux", "Online", null);
+        assertThat(json(status)).isEqualTo("{\"numExecutors\":\"3\",\"memory\":\"2/8 GB\",\"javaVersion\":\"11.2.3\","
+                + "\"name\":\"agent-0\",\"operatingSystem\":\"Linux\",\"status\":\"Online\"}");
+    }
+
+    @Test
+    void writeToMaster() {
+        final NodeStatus status = new NodeStatus(0, "2/8 GB", "11.2.3", "master", "Linux", null, "1.2.3");
+        assertThat(json(status)).isEqualTo("{\"numExecutors\":\"0\",\"memory\":\"2/8 GB\",\"javaVersion\":\"11.2.3\","
+                + "\"name\":\"master\",\"operatingSystem\":\"Linux\",\"coreVersion\":\"1.2.3\"}");
+    }
+
+    @Test
+    void writeToSkipsMissingFields() {
+        final NodeStatus status = new NodeStatus(null, null, null, "agent-0", null, "Online", null);
+        assertThat(json(status)).isEqualTo("{\"name\":\"agent-0\",\"status\":\"Online\"}");
+    }
+
+    @Test
+    void writeToWithNodeName() {
+        final NodeStatus status = new NodeStatus(null, null, null, "agent-0.example.org", null, "Online", null);
+        final JsonWriter writer = new JsonWriter();
+        status.writeTo(writer, "agent-0");
+        assertThat(new String(writer.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"node\":\"agent-0\",\"name\":\"agent-0.example.org\",\"status\":\"Online\"}");
+    }
+
+    @Test
+    void toJsonWritesArray() {
+        final List<NodeStatus> nodes = List.of(new NodeStatus(null, null, null, "agent-0", null, "Online", null),
+                new NodeStatus(null, null, null, "agent-1", null, "Offline (a reason)", null));
+        assertThat(new String(NodeStatus.toJson(nodes), StandardCharsets.UTF_8)).isEqualTo("[{\"name\":\"agent-0\","
+                + "\"status\":\"Online\"},{\"name\":\"agent-1\",\"status\":\"Offline (a reason)\"}]");
+    }
+
+    @Test
+    void toJsonWritesEmptyArray() {
+        assertThat(new String(NodeStatus.toJson(List.of()), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    private void stubDetails() {
+        when(details.getHostname()).thenReturn("agent-0");
+        when(details.getOperatingSystem()).thenReturn("Linux");
+        when(details.getNumExecutors()).thenReturn(3);
+        when(details.getMemoryUtilization()).thenReturn("2/8 GB");
+        when(details.getJavaVersion()).thenReturn("11.2.3");
+    }
+
+    private static String json(NodeStatus status) {
+        final JsonWriter writer = new JsonWriter();
+        status.writeTo(writer);
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
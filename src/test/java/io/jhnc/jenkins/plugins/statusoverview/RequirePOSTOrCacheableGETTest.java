@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.csrf.CrumbIssuer;
+import hudson.security.csrf.CrumbIssuerDescriptor;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.stapler.Function;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.StaplerResponse2;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequirePOSTOrCacheableGETTest {
+    private static final Object[] ARGUMENTS = new Object[0];
+    @Mock
+    Function target;
+    @Mock
+    StaplerRequest2 req;
+    @Mock
+    StaplerResponse2 rsp;
+    @Mock
+    ConfigurationSnapshot configuration;
+    @Mock
+    CrumbIssuer crumbIssuer;
+
+    @Test
+    void postIsAccepted() throws IllegalAccessException, InvocationTargetException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        when(req.getMethod()).thenReturn("POST");
+        when(target.invoke(req, rsp, this, ARGUMENTS)).thenReturn("result");
+
+        assertThat(processor.invoke(req, rsp, this, ARGUMENTS)).isEqualTo("result");
+        verify(processor, never()).getConfiguration();
+    }
+
+    @Test
+    void getIsRejectedIfNotEnabled() throws IOException, ServletException, IllegalAccessException, InvocationTargetException {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        when(req.getMethod()).thenReturn("GET");
+        doReturn(configuration).when(processor).getConfiguration();
+        when(configuration.isCacheableGet()).thenReturn(false);
+
+        assertRejected(processor);
+        verify(target, never()).invoke(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void otherMethodsAreRejected() throws IOException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        when(req.getMethod()).thenReturn("PUT");
+
+        assertRejected(processor);
+        verify(processor, never()).getConfiguration();
+    }
+
+    @Test
+    void getIsAcceptedWithoutCrumbIssuer() throws IllegalAccessException, InvocationTargetException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createEnabledSpy();
+        doReturn(null).when(processor).getCrumbIssuer();
+        when(target.invoke(req, rsp, this, ARGUMENTS)).thenReturn("result");
+
+        assertThat(processor.invoke(req, rsp, this, ARGUMENTS)).isEqualTo("result");
+    }
+
+    @Test
+    void getIsAcceptedWithValidCrumbHeader() throws IllegalAccessException, InvocationTargetException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createEnabledSpy();
+        mockCrumbIssuer(processor);
+        when(req.getHeader("Jenkins-Crumb")).thenReturn("abc");
+        when(crumbIssuer.validateCrumb(req, "salt", "abc")).thenReturn(true);
+        when(target.invoke(req, rsp, this, ARGUMENTS)).thenReturn("result");
+
+        assertThat(processor.invoke(req, rsp, this, ARGUMENTS)).isEqualTo("result");
+    }
+
+    @Test
+    void getIsAcceptedWithValidCrumbParameter() throws IllegalAccessException, InvocationTargetException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createEnabledSpy();
+        mockCrumbIssuer(processor);
+        when(req.getParameter("Jenkins-Crumb")).thenReturn("abc");
+        when(crumbIssuer.validateCrumb(req, "salt", "abc")).thenReturn(true);
+        when(target.invoke(req, rsp, this, ARGUMENTS)).thenReturn("result");
+
+        assertThat(processor.invoke(req, rsp, this, ARGUMENTS)).isEqualTo("result");
+    }
+
+    @Test
+    void getIsRejectedWithInvalidCrumb() throws IOException, ServletException, IllegalAccessException, InvocationTargetException {
+        final RequirePOSTOrCacheableGET.Processor processor = createEnabledSpy();
+        mockCrumbIssuer(processor);
+        when(req.getHeader("Jenkins-Crumb")).thenReturn("abc");
+        when(crumbIssuer.validateCrumb(req, "salt", "abc")).thenReturn(false);
+
+        assertRejected(processor);
+        verify(target, never()).invoke(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void getIsRejectedWithoutCrumb() throws IOException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createEnabledSpy();
+        doReturn(crumbIssuer).when(processor).getCrumbIssuer();
+        when(crumbIssuer.getCrumbRequestField()).thenReturn("Jenkins-Crumb");
+
+        assertRejected(processor);
+        verify(crumbIssuer, never()).validateCrumb(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void getIsAcceptedForListedPath() throws IllegalAccessException, InvocationTargetException, ServletException {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        final RequirePOSTOrCacheableGET annotation = mock(RequirePOSTOrCacheableGET.class);
+        when(annotation.paths()).thenReturn(new String[] {"/stream"});
+        when(target.getAnnotation(RequirePOSTOrCacheableGET.class)).thenReturn(annotation);
+        when(req.getMethod()).thenReturn("GET");
+        when(req.getRestOfPath()).thenReturn("/stream");
+        when(target.invoke(req, rsp, this, ARGUMENTS)).thenReturn("result");
+
+        assertThat(processor.invoke(req, rsp, this, ARGUMENTS)).isEqualTo("result");
+        verify(processor, never()).getConfiguration();
+    }
+
+    @Test
+    void getIsRejectedForOtherPath() throws IOException, ServletException, IllegalAccessException, InvocationTargetException {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        final RequirePOSTOrCacheableGET annotation = mock(RequirePOSTOrCacheableGET.class);
+        when(annotation.paths()).thenReturn(new String[] {"/stream"});
+        when(target.getAnnotation(RequirePOSTOrCacheableGET.class)).thenReturn(annotation);
+        when(req.getMethod()).thenReturn("GET");
+        when(req.getRestOfPath()).thenReturn("");
+        doReturn(configuration).when(processor).getConfiguration();
+        when(configuration.isCacheableGet()).thenReturn(false);
+
+        assertRejected(processor);
+        verify(target, never()).invoke(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    private void assertRejected(@NonNull RequirePOSTOrCacheableGET.Processor processor) throws IOException, ServletException {
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> processor.invoke(req, rsp, this, ARGUMENTS));
+        ((HttpResponse) e.getCause()).generateResponse(req, rsp, null);
+        verify(rsp).sendError(Mockito.eq(405), Mockito.anyString());
+    }
+
+    private void mockCrumbIssuer(@NonNull RequirePOSTOrCacheableGET.Processor processor) {
+        final CrumbIssuerDescriptor descriptor = mock(CrumbIssuerDescriptor.class);
+        when(descriptor.getCrumbSalt()).thenReturn("salt");
+        doReturn(crumbIssuer).when(processor).getCrumbIssuer();
+        when(crumbIssuer.getCrumbRequestField()).thenReturn("Jenkins-Crumb");
+        when(crumbIssuer.getDescriptor()).thenReturn(descriptor);
+    }
+
+    @NonNull
+    private RequirePOSTOrCacheableGET.Processor createEnabledSpy() {
+        final RequirePOSTOrCacheableGET.Processor processor = createSpy();
+        when(req.getMethod()).thenReturn("GET");
+        doReturn(configuration).when(processor).getConfiguration();
+        when(configuration.isCacheableGet()).thenReturn(true);
+        return processor;
+    }
+
+    @NonNull
+    private RequirePOSTOrCacheableGET.Processor createSpy() {
+        final RequirePOSTOrCacheableGET.Processor processor = Mockito.spy(RequirePOSTOrCacheableGET.Processor.class);
+        processor.setTarget(target);
+        return processor;
+    }
+}
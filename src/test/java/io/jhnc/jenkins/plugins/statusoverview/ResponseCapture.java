@@ -27,6 +27,7 @@ package io.jhnc.jenkins.plugins.statusoverview;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import net.sf.json.JsonConfig;
@@ -35,6 +36,7 @@ import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.StaplerResponse2;
 import org.kohsuke.stapler.export.Flavor;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -42,16 +44,37 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Locale;
 
 class ResponseCapture implements StaplerResponse2 {
     private final StringWriter out = new StringWriter();
     private final PrintWriter writer = new PrintWriter(out);
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+    };
     private int statusCode = 0;
 
     public String getResponseString() {
-        return out.toString();
+        return out + bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    public byte[] getResponseBytes() {
+        return bytes.toByteArray();
     }
 
     @Override
@@ -161,10 +184,12 @@ class ResponseCapture implements StaplerResponse2 {
 
     @Override
     public void sendError(int sc, String msg) {
+        statusCode = sc;
     }
 
     @Override
     public void sendError(int sc) {
+        statusCode = sc;
     }
 
     @Override
@@ -236,7 +261,7 @@ class ResponseCapture implements StaplerResponse2 {
 
     @Override
     public ServletOutputStream getOutputStream() {
-        return null;
+        return outputStream;
     }
 
     @Override
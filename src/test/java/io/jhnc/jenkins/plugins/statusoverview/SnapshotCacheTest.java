@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SnapshotCacheTest {
+    private static final SnapshotKey KEY = new SnapshotKey(SnapshotKey.AGENTS, Set.of(NodeField.NAME));
+
+    @Test
+    void getLoadsOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        final SnapshotCache cache = new SnapshotCache(key -> new Snapshot("[" + loads.incrementAndGet() + "]", 1_000L), 60_000L, 60_000L);
+
+        assertThat(cache.get(KEY).getPayload()).isEqualTo("[1]".getBytes(StandardCharsets.UTF_8));
+        assertThat(cache.get(KEY).getPayload()).isEqualTo("[1]".getBytes(StandardCharsets.UTF_8));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1L);
+    }
+
+    @Test
+    void getIfLoadedDoesNotLoad() {
+        final SnapshotCache cache = new SnapshotCache(key -> new Snapshot("[]", 1_000L), 60_000L, 60_000L);
+
+        assertThat(cache.getIfLoaded(KEY)).isNull();
+        assertThat(cache.loadedKeys(SnapshotKey.AGENTS)).isEmpty();
+    }
+
+    @Test
+    void restoreDoesNotReplaceLoadedSnapshot() {
+        final SnapshotCache cache = new SnapshotCache(key -> new Snapshot("[]", 1_000L), 60_000L, 60_000L);
+        final Snapshot loaded = cache.get(KEY);
+
+        assertThat(cache.restore(KEY, new Snapshot("[{}]", 2_000L))).isFalse();
+        assertThat(cache.getIfLoaded(KEY)).isSameInstanceAs(loaded);
+        assertThat(cache.restore(SnapshotKey.PLUGINS_KEY, new Snapshot("[{}]", 2_000L))).isTrue();
+        assertThat(cache.getIfLoaded(SnapshotKey.PLUGINS_KEY).getTimestamp()).isEqualTo(2_000L);
+    }
+
+    @Test
+    void loadedKeysFiltersByType() {
+        final SnapshotCache cache = new SnapshotCache(key -> new Snapshot("[]", 1_000L), 60_000L, 60_000L);
+
+        cache.get(KEY);
+        cache.get(SnapshotKey.ALL_AGENTS);
+        cache.put(SnapshotKey.PLUGINS_KEY, new Snapshot("[]", 1_000L));
+
+        assertThat(cache.loadedKeys(SnapshotKey.AGENTS)).containsExactly(KEY, SnapshotKey.ALL_AGENTS);
+        assertThat(cache.loadedKeys(SnapshotKey.PLUGINS)).containsExactly(SnapshotKey.PLUGINS_KEY);
+    }
+
+    @Test
+    void refreshRequestedReloadsRequestedSnapshots() {
+        final AtomicInteger loads = new AtomicInteger();
+        final SnapshotCache cache = new SnapshotCache(key -> new Snapshot("[" + loads.incrementAndGet() + "]", 1_000L), 60_000L, 60_000L);
+
+        cache.get(KEY);
+        cache.refreshRequested().join();
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getIfLoaded(KEY).getPayload()).isEqualTo("[2]".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SnapshotKeyTest {
+    @Test
+    void parseSelectsFields() {
+        assertThat(SnapshotKey.parse(SnapshotKey.AGENTS, "name,status", NodeField.AGENT))
+                .isEqualTo(new SnapshotKey(SnapshotKey.AGENTS, Set.of(NodeField.NAME, NodeField.STATUS)));
+    }
+
+    @Test
+    void parseWithoutFieldsSelectsAllAvailable() {
+        assertThat(SnapshotKey.parse(SnapshotKey.AGENTS, null, NodeField.AGENT)).isEqualTo(SnapshotKey.ALL_AGENTS);
+        assertThat(SnapshotKey.parse(SnapshotKey.MASTER, null, NodeField.MASTER)).isEqualTo(SnapshotKey.MASTER_KEY);
+    }
+
+    @Test
+    void parseInvalidFieldsReturnsNull() {
+        assertThat(SnapshotKey.parse(SnapshotKey.AGENTS, "coreVersion", NodeField.AGENT)).isNull();
+        assertThat(SnapshotKey.parse(SnapshotKey.MASTER, "unknown", NodeField.MASTER)).isNull();
+    }
+}
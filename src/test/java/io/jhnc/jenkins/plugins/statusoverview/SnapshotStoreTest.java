@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotStoreTest {
+    private static final NodeStatus AGENT = new NodeStatus(2, "2/8 GB", "21.0.1", "agent-0", "Linux", "Online", null);
+    private static final NodeStatus UNKNOWN = new NodeStatus(null, null, null, null, null, "Offline (a reason)", null);
+    @TempDir
+    Path dir;
+
+    @Test
+    void snapshotsRoundTrip() throws IOException {
+        final Path file = dir.resolve("snapshots.bin");
+        SnapshotStore.write(file, Map.of(
+                "agents", new Snapshot("[{}]".getBytes(StandardCharsets.UTF_8), 1_000L, Map.of("agent-0", AGENT, "agent-1", UNKNOWN), 7L),
+                "plugins", new Snapshot("[]", 2_000L)));
+
+        final Map<String, Snapshot> snapshots = SnapshotStore.read(file);
+
+        assertThat(snapshots.keySet()).containsExactly("agents", "plugins");
+        final Snapshot agents = snapshots.get("agents");
+        assertThat(new String(agents.getPayload(), StandardCharsets.UTF_8)).isEqualTo("[{}]");
+        assertThat(agents.getTimestamp()).isEqualTo(1_000L);
+        assertThat(agents.getGeneration()).isEqualTo(7L);
+        assertThat(agents.getNodes()).containsExactly("agent-0", AGENT, "agent-1", UNKNOWN);
+        assertThat(snapshots.get("plugins").getNodes()).isEmpty();
+    }
+
+    @Test
+    void restoredSnapshotsAreStale() throws IOException {
+        final Path file = dir.resolve("snapshots.bin");
+        SnapshotStore.write(file, Map.of("plugins", new Snapshot("[]", 2_000L)));
+
+        assertThat(SnapshotStore.read(file).get("plugins").isStale()).isTrue();
+    }
+
+    @Test
+    void writeReplacesExistingFile() throws IOException {
+        final Path file = dir.resolve("snapshots.bin");
+        SnapshotStore.write(file, Map.of("plugins", new Snapshot("[]", 1_000L)));
+        SnapshotStore.write(file, Map.of("master", new Snapshot("[{}]", 2_000L)));
+
+        assertThat(SnapshotStore.read(file).keySet()).containsExactly("master");
+        try (var files = Files.list(dir)) {
+            assertThat(files.toList()).containsExactly(file);
+        }
+    }
+
+    @Test
+    void writeCreatesDirectory() throws IOException {
+        final Path file = dir.resolve("status-overview").resolve("snapshots.bin");
+        SnapshotStore.write(file, Map.of());
+
+        assertThat(SnapshotStore.read(file)).isEmpty();
+    }
+
+    @Test
+    void readReturnsEmptyIfFileIsMissing() throws IOException {
+        assertThat(SnapshotStore.read(dir.resolve("snapshots.bin"))).isEmpty();
+    }
+
+    @Test
+    void readRejectsInvalidFile() throws IOException {
+        final Path file = dir.resolve("snapshots.bin");
+        Files.writeString(file, "invalid");
+
+        assertThrows(IOException.class, () -> SnapshotStore.read(file));
+    }
+}
@@ -24,6 +24,7 @@
 
 package io.jhnc.jenkins.plugins.statusoverview;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.PluginManager;
 import hudson.PluginWrapper;
@@ -31,9 +32,11 @@ import hudson.model.Computer;
 import hudson.model.Descriptor;
 import hudson.security.ACLContext;
 import hudson.slaves.DumbSlave;
+import jakarta.servlet.AsyncContext;
 import jenkins.model.Jenkins;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.kohsuke.stapler.HttpResponse;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.mockito.Mock;
@@ -42,16 +45,34 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -152,17 +173,664 @@ class StatusOverviewActionTest {
         verify(action).changeContext();
     }
 
+    @Test
+    void agentCollectionChangesACLContextOnAgentThread() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-0", "agent-1");
+
+        action.doAgents(ignore);
+        verify(action, times(3)).changeContext();
+    }
+
     @Test
     void agentsRequestReturnsAgentDataJson() throws IOException, Descriptor.FormException {
         final StatusOverviewAction action = createSpy();
         final DumbSlave nodeA = new DumbSlave("agent-0", "/tmp/a", null);
         final DumbSlave nodeB = new DumbSlave("agent-1", "/tmp/b", null);
-        doReturn(Arrays.asList(nodeA, nodeB)).when(jenkins).getNodes();
+        doReturn(Arrays.asList(nodeA, nodeB)).when(jenkins).getNodes();
+        final NodeComputerDetails detailsA = mockNodeDetails("agent-0", 3);
+        when(detailsA.isOffline()).thenReturn(false);
+        final NodeComputerDetails detailsB = mockNodeDetails("agent-1", 1);
+        when(detailsB.isOffline()).thenReturn(true);
+        when(detailsB.getOfflineCauseReason()).thenReturn("a reason");
+        final Computer computerA = mock(Computer.class);
+        final Computer computerB = mock(Computer.class);
+        doReturn(computerA).when(action).getComputer(nodeA);
+        doReturn(computerB).when(action).getComputer(nodeB);
+        doReturn(detailsA).when(action).getNodeDetails(computerA);
+        doReturn(detailsB).when(action).getNodeDetails(computerB);
+
+        final HttpResponse resp = action.doAgents(ignore);
+        assertThat(responseString(resp)).isEqualTo("[{\"numExecutors\":\"3\",\"memory\":\"2/8 GB\"," +
+                "\"javaVersion\":\"11.2.3\",\"name\":\"agent-0\",\"operatingSystem\":\"Linux\",\"status\":\"Online\"}," +
+                "{\"numExecutors\":\"1\",\"memory\":\"2/8 GB\",\"javaVersion\":\"11.2.3\",\"name\":\"agent-1\"," +
+                "\"operatingSystem\":\"Linux\",\"status\":\"Offline (a reason)\"}]");
+    }
+
+    @Test
+    void agentsRequestReturnsEmptyIfNoAgents() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        final HttpResponse resp = action.doAgents(ignore);
+        assertThat(responseString(resp)).isEqualTo("[]");
+    }
+
+    @Test
+    void agentsRequestReturnsEmptyOnNullNode() {
+        final StatusOverviewAction action = createSpy();
+        final List<DumbSlave> nullList = Collections.singletonList(null);
+        doReturn(nullList).when(jenkins).getNodes();
+
+        final HttpResponse resp = action.doAgents(ignore);
+        assertThat(responseString(resp)).isEqualTo("[]");
+    }
+
+    @Test
+    void agentsRequestReturnsEmptyOnNullComputer() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(null).when(action).getComputer(node);
+
+        final HttpResponse resp = action.doAgents(ignore);
+        assertThat(responseString(resp)).isEqualTo("[]");
+    }
+
+    @Test
+    void agentsRequestCaches() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        final HttpResponse resp0 = action.doAgents(ignore);
+        final HttpResponse resp1 = action.doAgents(ignore);
+
+        assertThat(responseString(resp0)).isEqualTo(responseString(resp1));
+        verify(jenkins, times(1)).getNodes();
+    }
+
+    @Test
+    void agentsRequestKeepsNodeOrder() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final List<DumbSlave> nodes = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            final DumbSlave node = new DumbSlave("agent-" + i, "/tmp/" + i, null);
+            final Computer computer = mock(Computer.class);
+            final NodeComputerDetails details = mock(NodeComputerDetails.class);
+            final long delay = (8 - i) * 5L;
+            when(details.getHostname()).thenAnswer(invocation -> {
+                Thread.sleep(delay);
+                return node.getNodeName();
+            });
+            doReturn(computer).when(action).getComputer(node);
+            doReturn(details).when(action).getNodeDetails(computer);
+            nodes.add(node);
+            expected.add(node.getNodeName());
+        }
+        doReturn(nodes).when(jenkins).getNodes();
+
+        assertThat(names(responseString(action.doAgents(ignore)))).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    void agentsRequestLimitsConcurrentCollection() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(2, 30, 3, false)).when(action).getConfiguration();
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final List<DumbSlave> nodes = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            final DumbSlave node = new DumbSlave("agent-" + i, "/tmp/" + i, null);
+            final Computer computer = mock(Computer.class);
+            final NodeComputerDetails details = mock(NodeComputerDetails.class);
+            when(details.getHostname()).thenAnswer(invocation -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(20L);
+                active.decrementAndGet();
+                return node.getNodeName();
+            });
+            doReturn(computer).when(action).getComputer(node);
+            doReturn(details).when(action).getNodeDetails(computer);
+            nodes.add(node);
+        }
+        doReturn(nodes).when(jenkins).getNodes();
+
+        action.doAgents(ignore);
+        assertThat(maxActive.get()).isAtMost(2);
+    }
+
+    @Test
+    void agentsPageIsSortedByName() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-c", "agent-a", "agent-b");
+
+        final String response = responseString(action.doAgents(pageRequest("2", null)));
+        assertThat(names(response)).containsExactly("agent-a", "agent-b").inOrder();
+        assertThat(response).startsWith("{\"agents\":[{\"node\":\"agent-a\",");
+        assertThat(response).endsWith("],\"nextCursor\":\"" + cursor("agent-b") + "\"}");
+    }
+
+    @Test
+    void agentsPageFollowsCursorWithoutRecollection() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-c", "agent-a", "agent-b");
+
+        final String response = responseString(action.doAgents(pageRequest("2", cursor("agent-b"))));
+        assertThat(names(response)).containsExactly("agent-c");
+        assertThat(response).endsWith("],\"nextCursor\":null}");
+
+        responseString(action.doAgents(pageRequest("2", null)));
+        verify(jenkins, times(1)).getNodes();
+    }
+
+    @Test
+    void agentsPageCursorStaysValidIfAgentRemoved() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-a", "agent-c");
+
+        final String response = responseString(action.doAgents(pageRequest("1", cursor("agent-b"))));
+        assertThat(names(response)).containsExactly("agent-c");
+        assertThat(response).endsWith("],\"nextCursor\":null}");
+    }
+
+    @Test
+    void agentsPageUsesDefaultLimitIfOnlyCursorGiven() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-a", "agent-b");
+
+        final String response = responseString(action.doAgents(pageRequest(null, "")));
+        assertThat(names(response)).containsExactly("agent-a", "agent-b").inOrder();
+    }
+
+    @Test
+    void agentsPageRejectsInvalidLimit() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        assertThat(responseCode(action.doAgents(pageRequest("0", null)))).isEqualTo(400);
+        assertThat(responseCode(action.doAgents(pageRequest("abc", null)))).isEqualTo(400);
+    }
+
+    @Test
+    void agentsPageRejectsInvalidCursor() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        assertThat(responseCode(action.doAgents(pageRequest("1", "not*base64")))).isEqualTo(400);
+    }
+
+    @Test
+    void agentsFieldsLimitOutputAndCollection() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        when(details.getHostname()).thenReturn("agent-0");
+        when(details.isOffline()).thenReturn(false);
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        final HttpResponse resp = action.doAgents(fieldsRequest("status,name"));
+        assertThat(responseString(resp)).isEqualTo("[{\"name\":\"agent-0\",\"status\":\"Online\"}]");
+        verify(details, never()).getJavaVersion();
+        verify(details, never()).getMemoryUtilization();
+        verify(details, never()).getOperatingSystem();
+    }
+
+    @Test
+    void agentsFieldsHaveOwnSnapshot() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        action.doAgents(ignore);
+        action.doAgents(fieldsRequest("name"));
+        action.doAgents(fieldsRequest("name"));
+        action.doAgents(fieldsRequest("numExecutors,memory,javaVersion,name,operatingSystem,status"));
+        verify(jenkins, times(2)).getNodes();
+    }
+
+    @Test
+    void agentsFieldsRejectUnknownField() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doAgents(fieldsRequest("name,unknown")))).isEqualTo(400);
+        assertThat(responseCode(action.doAgents(fieldsRequest("coreVersion")))).isEqualTo(400);
+        verify(action, never()).changeContext();
+    }
+
+    @Test
+    void agentChangeUpdatesProjectedSnapshot() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        when(details.isOffline()).thenReturn(false, true);
+        when(details.getOfflineCauseReason()).thenReturn("disconnected");
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        assertThat(responseString(action.doAgents(fieldsRequest("status")))).isEqualTo("[{\"status\":\"Online\"}]");
+        action.agentChanged("agent-0").join();
+        assertThat(responseString(action.doAgents(fieldsRequest("status"))))
+                .isEqualTo("[{\"status\":\"Offline (disconnected)\"}]");
+    }
+
+    @Test
+    void agentsChangesReturnsChangesSinceGeneration() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails details = mockNodeDetails("agent-0", 1);
+        when(details.isOffline()).thenReturn(false, true);
+        when(details.getOfflineCauseReason()).thenReturn("disconnected");
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        assertThat(responseString(action.doAgents(changesRequest(Map.of())))).startsWith("{\"generation\":1,\"full\":true,"
+                + "\"changed\":{\"agent-0\":{");
+        action.agentChanged("agent-0").join();
+
+        assertThat(responseString(action.doAgents(changesRequest(Map.of("since", "1"))))).isEqualTo("{\"generation\":2,"
+                + "\"full\":false,\"changed\":{\"agent-0\":{\"numExecutors\":\"1\",\"memory\":\"2/8 GB\","
+                + "\"javaVersion\":\"11.2.3\",\"name\":\"agent-0\",\"operatingSystem\":\"Linux\","
+                + "\"status\":\"Offline (disconnected)\"}},\"removed\":[]}");
+        assertThat(responseString(action.doAgents(changesRequest(Map.of("since", "2")))))
+                .isEqualTo("{\"generation\":2,\"full\":false,\"changed\":{},\"removed\":[]}");
+    }
+
+    @Test
+    void agentsChangesIgnoresProjectedSnapshots() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+
+        action.doAgents(fieldsRequest("name"));
+        assertThat(responseString(action.doAgents(changesRequest(Map.of())))).isEqualTo("{\"generation\":1,\"full\":true,"
+                + "\"changed\":{},\"removed\":[]}");
+    }
+
+    @Test
+    void agentsChangesRejectsInvalidGeneration() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doAgents(changesRequest(Map.of("since", "abc"))))).isEqualTo(400);
+    }
+
+    @Test
+    void agentsStreamSendsSnapshotAndEvents() throws IOException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.startAsync()).thenReturn(asyncContext);
+        final ResponseCapture capture = new ResponseCapture();
+        when(asyncContext.getResponse()).thenReturn(capture);
+
+        final CorsHttpResponse resp = Mockito.spy((CorsHttpResponse) action.doAgents(streamRequest()));
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(resp).getConfiguration();
+        resp.generateResponse(req, capture, null);
+        action.agentEvent(AgentEvent.OFFLINE, "agent-0", "disconnected");
+        action.agentEvent(AgentEvent.ADDED, "agent-1", null);
+
+        final String expected = "event: snapshot\ndata: []\n\n"
+                + "event: offline\ndata: {\"node\":\"agent-0\",\"reason\":\"disconnected\"}\n\n"
+                + "event: added\ndata: {\"node\":\"agent-1\"}\n\n";
+        for (int i = 0; i < 250 && !capture.getResponseString().equals(expected); i++) {
+            Thread.sleep(20L);
+        }
+        assertThat(capture.getResponseString()).isEqualTo(expected);
+    }
+
+    @Test
+    void agentsStreamSnapshotContainsNodeNames() throws IOException, Descriptor.FormException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-0");
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.startAsync()).thenReturn(asyncContext);
+        final ResponseCapture capture = new ResponseCapture();
+        when(asyncContext.getResponse()).thenReturn(capture);
+
+        final CorsHttpResponse resp = Mockito.spy((CorsHttpResponse) action.doAgents(streamRequest()));
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(resp).getConfiguration();
+        resp.generateResponse(req, capture, null);
+
+        for (int i = 0; i < 250 && capture.getResponseString().isEmpty(); i++) {
+            Thread.sleep(20L);
+        }
+        assertThat(capture.getResponseString()).startsWith("event: snapshot\ndata: [{\"node\":\"agent-0\",");
+    }
+
+    @Test
+    void agentsRequestReturnsNotFoundForUnknownPath() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        for (final String path : List.of("/foo", "/stream/", "/changes/x")) {
+            final StaplerRequest2 req = mock(StaplerRequest2.class);
+            when(req.getRestOfPath()).thenReturn(path);
+            assertThat(responseCode(action.doAgents(req))).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void agentEventIsIgnoredForMaster() throws IOException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.startAsync()).thenReturn(asyncContext);
+        final ResponseCapture capture = new ResponseCapture();
+        when(asyncContext.getResponse()).thenReturn(capture);
+
+        final CorsHttpResponse resp = Mockito.spy((CorsHttpResponse) action.doAgents(streamRequest()));
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(resp).getConfiguration();
+        resp.generateResponse(req, capture, null);
+        action.agentEvent(AgentEvent.ONLINE, "", null);
+        action.agentEvent(AgentEvent.ONLINE, "agent-0", null);
+
+        for (int i = 0; i < 250 && !capture.getResponseString().contains("agent-0"); i++) {
+            Thread.sleep(20L);
+        }
+        assertThat(capture.getResponseString()).isEqualTo("event: snapshot\ndata: []\n\n"
+                + "event: online\ndata: {\"node\":\"agent-0\"}\n\n");
+    }
+
+    @Test
+    void agentsRequestReportsTimedOutAgent() throws IOException, Descriptor.FormException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(16, 1, 3, false)).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        final Computer computer = mock(Computer.class);
+        when(computer.getNumExecutors()).thenReturn(2);
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        final CountDownLatch hung = new CountDownLatch(1);
+        when(details.getHostname()).thenAnswer(invocation -> {
+            hung.await();
+            return "agent-0";
+        });
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        try {
+            assertThat(responseString(action.doAgents(fieldsRequest("numExecutors,name,status"))))
+                    .isEqualTo("[{\"numExecutors\":\"2\",\"name\":\"agent-0\",\"status\":\"Unavailable (timed out)\"}]");
+        } finally {
+            hung.countDown();
+        }
+    }
+
+    @Test
+    void agentsRequestCollectsAgentQueuedBehindTimedOutAgent() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(1, 1, 3, false)).when(action).getConfiguration();
+        final DumbSlave hungNode = new DumbSlave("agent-0", "/tmp/a", null);
+        final DumbSlave node = new DumbSlave("agent-1", "/tmp/b", null);
+        doReturn(List.of(hungNode, node)).when(jenkins).getNodes();
+        final Computer hungComputer = mock(Computer.class);
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails hungDetails = mock(NodeComputerDetails.class);
+        final CountDownLatch hung = new CountDownLatch(1);
+        when(hungDetails.getHostname()).thenAnswer(invocation -> {
+            hung.await();
+            return "agent-0";
+        });
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        when(details.getHostname()).thenReturn("agent-1");
+        doReturn(hungComputer).when(action).getComputer(hungNode);
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(hungDetails).when(action).getNodeDetails(hungComputer);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        try {
+            assertThat(responseString(action.doAgents(fieldsRequest("name,status"))))
+                    .isEqualTo("[{\"name\":\"agent-0\",\"status\":\"Unavailable (timed out)\"},"
+                            + "{\"name\":\"agent-1\",\"status\":\"Online\"}]");
+        } finally {
+            hung.countDown();
+        }
+    }
+
+    @Test
+    void agentsRequestSkipsAgentWithOpenCircuit() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(16, 1, 1, false)).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        final CountDownLatch hung = new CountDownLatch(1);
+        when(details.getHostname()).thenAnswer(invocation -> {
+            hung.await();
+            return "agent-0";
+        });
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        try {
+            assertThat(responseString(action.doAgents(fieldsRequest("name,status")))).contains("Unavailable (timed out)");
+            action.agentChanged("agent-0").join();
+            assertThat(responseString(action.doAgents(fieldsRequest("name,status"))))
+                    .isEqualTo("[{\"name\":\"agent-0\",\"status\":\"Unavailable (circuit open)\"}]");
+            verify(action, times(1)).getNodeDetails(computer);
+        } finally {
+            hung.countDown();
+        }
+    }
+
+    @Test
+    void agentConnectDoesNotCallAgent() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        final Computer computer = mock(Computer.class);
+        when(computer.getName()).thenReturn("agent-0");
+
+        action.agentConnected(computer);
+        verify(computer, never()).getChannel();
+    }
+
+    @Test
+    void agentConnectClosesCircuit() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(16, 1, 1, false)).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        when(computer.getName()).thenReturn("agent-0");
+        final NodeComputerDetails hungDetails = mock(NodeComputerDetails.class);
+        final CountDownLatch hung = new CountDownLatch(1);
+        when(hungDetails.getHostname()).thenAnswer(invocation -> {
+            hung.await();
+            return "agent-0";
+        });
+        final NodeComputerDetails details = mockNodeDetails("agent-0", 1);
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(hungDetails, details).when(action).getNodeDetails(computer);
+
+        try {
+            assertThat(responseString(action.doAgents(ignore))).contains("Unavailable (timed out)");
+            action.agentConnected(computer);
+            action.agentChanged("agent-0").join();
+            assertThat(responseString(action.doAgents(ignore))).contains("\"status\":\"Online\"");
+        } finally {
+            hung.countDown();
+        }
+    }
+
+    @Test
+    void archiveRequestReturnsArchivedAndPendingSamples(@TempDir Path dir) throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(configuration(16, 30, 3, true)).when(action).getConfiguration();
+        doReturn(dir).when(action).getHistoryDirectory();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        final Computer computer = mock(Computer.class);
+        when(computer.isOffline()).thenReturn(false, true);
+        when(computer.getNumExecutors()).thenReturn(2);
+        doReturn(computer).when(action).getComputer(node);
+
+        action.sampleHistory();
+        action.archiveHistory(System.currentTimeMillis() + HistoryArchive.BLOCK_MS);
+        action.sampleHistory();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.toList()).hasSize(1);
+        }
+        assertThat(responseString(action.doAgents(archiveRequest(Map.of("node", "agent-0", "from", "0",
+                "to", Long.toString(Long.MAX_VALUE)))))).matches("\\{\"node\":\"agent-0\",\"from\":0,"
+                + "\"to\":9223372036854775807,\"timestamps\":\\[\\d+,\\d+],\"online\":\\[true,false],"
+                + "\"executors\":\\[2,2],\"busyExecutors\":\\[0,0],\"usedMemory\":\\[0,0]}");
+    }
+
+    @Test
+    void archiveIsNotWrittenIfDisabled(@TempDir Path dir) throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(mock(Computer.class)).when(action).getComputer(node);
+
+        action.sampleHistory();
+        action.archiveHistory(System.currentTimeMillis() + HistoryArchive.BLOCK_MS);
+
+        verify(action, never()).getHistoryDirectory();
+        doReturn(dir).when(action).getHistoryDirectory();
+        assertThat(responseString(action.doAgents(archiveRequest(Map.of("node", "agent-0")))))
+                .contains("\"timestamps\":[],\"online\":[]");
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.toList()).isEmpty();
+        }
+    }
+
+    @Test
+    void archiveIsNotWrittenBeforeBlockIsComplete() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+
+        action.archiveHistory(System.currentTimeMillis());
+        verify(action, never()).getHistoryDirectory();
+    }
+
+    @Test
+    void archiveRequestRejectsInvalidParameters() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doAgents(archiveRequest(Map.of())))).isEqualTo(400);
+        assertThat(responseCode(action.doAgents(archiveRequest(Map.of("node", "agent-0", "to", "abc"))))).isEqualTo(400);
+    }
+
+    @Test
+    void archiveRequestReportsUnreadableArchive(@TempDir Path dir) throws IOException {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+        final Path file = dir.resolve("history");
+        Files.writeString(file, "not a directory");
+        doReturn(file).when(action).getHistoryDirectory();
+
+        assertThat(responseCode(action.doAgents(archiveRequest(Map.of("node", "agent-0"))))).isEqualTo(500);
+    }
+
+    @Test
+    void historyRequestReturnsSampledHistory() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        final Computer computer = mock(Computer.class);
+        when(computer.isOffline()).thenReturn(false, true);
+        when(computer.getNumExecutors()).thenReturn(2);
+        doReturn(computer).when(action).getComputer(node);
+
+        action.sampleHistory();
+        action.sampleHistory();
+
+        assertThat(responseString(action.doAgents(historyRequest(Map.of("node", "agent-0"))))).matches(
+                "\\{\"node\":\"agent-0\",\"interval\":300,\"timestamps\":\\[\\d+,\\d+],\"online\":\\[true,false],"
+                + "\"executors\":\\[2,2],\"busyExecutors\":\\[0,0],\"usedMemory\":\\[0,0]}");
+        verify(action).checkPermission();
+    }
+
+    @Test
+    void historyRequestFiltersByTime() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(action).getConfiguration();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(mock(Computer.class)).when(action).getComputer(node);
+
+        action.sampleHistory();
+
+        assertThat(responseString(action.doAgents(historyRequest(Map.of("node", "agent-0",
+                "from", Long.toString(System.currentTimeMillis() + 60_000L))))))
+                .contains("\"timestamps\":[],\"online\":[]");
+    }
+
+    @Test
+    void historyRequestRejectsInvalidParameters() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doAgents(historyRequest(Map.of())))).isEqualTo(400);
+        assertThat(responseCode(action.doAgents(historyRequest(Map.of("node", "agent-0", "from", "abc"))))).isEqualTo(400);
+    }
+
+    @Test
+    void historyRequestReturnsNotFoundForUnknownNode() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doAgents(historyRequest(Map.of("node", "agent-0"))))).isEqualTo(404);
+    }
+
+    @Test
+    void agentChangeUpdatesOnlyAffectedAgent() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave nodeA = new DumbSlave("agent-0", "/tmp/a", null);
+        final DumbSlave nodeB = new DumbSlave("agent-1", "/tmp/b", null);
+        doReturn(Arrays.asList(nodeA, nodeB)).when(jenkins).getNodes();
+        doReturn(nodeB).when(jenkins).getNode("agent-1");
+        final NodeComputerDetails detailsA = mockNodeDetails("agent-0", 3);
+        final NodeComputerDetails detailsB = mockNodeDetails("agent-1", 1);
+        final NodeComputerDetails detailsBOffline = mockNodeDetails("agent-1", 1);
+        when(detailsBOffline.isOffline()).thenReturn(true);
+        when(detailsBOffline.getOfflineCauseReason()).thenReturn("disconnected");
+        final Computer computerA = mock(Computer.class);
+        final Computer computerB = mock(Computer.class);
+        doReturn(computerA).when(action).getComputer(nodeA);
+        doReturn(computerB).when(action).getComputer(nodeB);
+        doReturn(detailsA).when(action).getNodeDetails(computerA);
+        doReturn(detailsB, detailsBOffline).when(action).getNodeDetails(computerB);
+
+        assertThat(responseString(action.doAgents(ignore))).doesNotContain("Offline");
+        action.agentChanged("agent-1").join();
+
+        final String response = responseString(action.doAgents(ignore));
+        assertThat(response).contains("\"name\":\"agent-0\",\"operatingSystem\":\"Linux\",\"status\":\"Online\"");
+        assertThat(response).contains("\"name\":\"agent-1\",\"operatingSystem\":\"Linux\",\"status\":\"Offline (disconnected)\"");
+        verify(action, times(1)).getNodeDetails(computerA);
+        verify(action, times(2)).getNodeDetails(computerB);
+    }
+
+    @Test
+    void agentChangeRemovesDeletedAgent() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave nodeA = new DumbSlave("agent-0", "/tmp/a", null);
+        final DumbSlave nodeB = new DumbSlave("agent-1", "/tmp/b", null);
+        doReturn(Arrays.asList(nodeA, nodeB), Collections.singletonList(nodeA)).when(jenkins).getNodes();
+        doReturn(null).when(jenkins).getNode("agent-1");
         final NodeComputerDetails detailsA = mockNodeDetails("agent-0", 3);
-        when(detailsA.isOffline()).thenReturn(false);
         final NodeComputerDetails detailsB = mockNodeDetails("agent-1", 1);
-        when(detailsB.isOffline()).thenReturn(true);
-        when(detailsB.getOfflineCauseReason()).thenReturn("a reason");
         final Computer computerA = mock(Computer.class);
         final Computer computerB = mock(Computer.class);
         doReturn(computerA).when(action).getComputer(nodeA);
@@ -170,55 +838,375 @@ class StatusOverviewActionTest {
         doReturn(detailsA).when(action).getNodeDetails(computerA);
         doReturn(detailsB).when(action).getNodeDetails(computerB);
 
-        final HttpResponse resp = action.doAgents(ignore);
-        assertThat(responseString(resp)).isEqualTo("[{\"numExecutors\":\"3\",\"memory\":\"2/8 GB\"," +
-                "\"javaVersion\":\"11.2.3\",\"name\":\"agent-0\",\"operatingSystem\":\"Linux\",\"status\":\"Online\"}," +
-                "{\"numExecutors\":\"1\",\"memory\":\"2/8 GB\",\"javaVersion\":\"11.2.3\",\"name\":\"agent-1\"," +
-                "\"operatingSystem\":\"Linux\",\"status\":\"Offline (a reason)\"}]");
+        assertThat(responseString(action.doAgents(ignore))).contains("agent-1");
+        action.agentChanged("agent-1").join();
+
+        final String response = responseString(action.doAgents(ignore));
+        assertThat(response).contains("agent-0");
+        assertThat(response).doesNotContain("agent-1");
     }
 
     @Test
-    void agentsRequestReturnsEmptyIfNoAgents() {
+    void refreshKeepsAgentUpdatedWhileCollecting() throws IOException, Descriptor.FormException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        doReturn(computer).when(action).getComputer(node);
+        final NodeComputerDetails online = mockNodeDetails("agent-0", 1);
+        final NodeComputerDetails collecting = mock(NodeComputerDetails.class);
+        final NodeComputerDetails offline = mockNodeDetails("agent-0", 1);
+        when(offline.isOffline()).thenReturn(true);
+        when(offline.getOfflineCauseReason()).thenReturn("disconnected");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(collecting.getHostname()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "agent-0";
+        });
+        doReturn(online, collecting, offline).when(action).getNodeDetails(computer);
+
+        assertThat(responseString(action.doAgents(ignore))).doesNotContain("Offline");
+        final CompletableFuture<Void> refresh = action.refreshSnapshots();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        action.agentChanged("agent-0").join();
+        release.countDown();
+        refresh.join();
+
+        assertThat(responseString(action.doAgents(ignore))).contains("\"status\":\"Offline (disconnected)\"");
+        assertThat(responseString(action.doAgents(changesRequest(Map.of("since", "2")))))
+                .isEqualTo("{\"generation\":2,\"full\":false,\"changed\":{},\"removed\":[]}");
+    }
+
+    @Test
+    void agentChangeIsIgnoredWithoutAgentsSnapshot() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+
+        action.agentChanged("agent-0").join();
+        verify(action, never()).getJenkins();
+    }
+
+    @Test
+    void agentChangeIsIgnoredForMaster() {
         final StatusOverviewAction action = createSpy();
         doReturn(Collections.emptyList()).when(jenkins).getNodes();
 
-        final HttpResponse resp = action.doAgents(ignore);
-        assertThat(responseString(resp)).isEqualTo("[]");
+        action.doAgents(ignore);
+        action.agentChanged("").join();
+        verify(jenkins, never()).getNode("");
     }
 
     @Test
-    void agentsRequestReturnsEmptyOnNullNode() {
+    void refreshUpdatesRequestedSnapshots() throws InterruptedException {
         final StatusOverviewAction action = createSpy();
-        final List<DumbSlave> nullList = Collections.singletonList(null);
-        doReturn(nullList).when(jenkins).getNodes();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        final PluginWrapper plugin = mockPlugin("pi0", "plugin-0", "0.0.1");
+        when(pluginManager.getPlugins()).thenReturn(Collections.emptyList(), Collections.singletonList(plugin));
 
-        final HttpResponse resp = action.doAgents(ignore);
-        assertThat(responseString(resp)).isEqualTo("[]");
+        assertThat(responseString(action.doPlugins(ignore))).isEqualTo("[]");
+        action.refreshSnapshots().join();
+
+        assertThat(responseString(awaitResponse(() -> action.doPlugins(ignore), resp -> responseString(resp).contains("pi0"))))
+                .isEqualTo("[{\"displayName\":\"plugin-0\",\"name\":\"pi0\",\"version\":\"0.0.1\"}]");
+        verify(pluginManager, times(2)).getPlugins();
     }
 
     @Test
-    void agentsRequestReturnsEmptyOnNullComputer() throws IOException, Descriptor.FormException {
+    void refreshSkipsSnapshotsNotRequested() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+
+        action.refreshSnapshots().join();
+        verify(action, never()).getJenkins();
+    }
+
+    @Test
+    void refreshDropsSnapshotIfNoLongerAvailable() throws InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        final Computer computer = mock(Computer.class);
+        doReturn(new Computer[]{computer}, (Object) new Computer[]{null}).when(jenkins).getComputers();
+        final NodeComputerDetails details = mockNodeDetails("master", 0);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        assertThat(responseString(action.doMaster(ignore))).contains("\"name\":\"master\"");
+        action.refreshSnapshots().join();
+
+        assertThat(responseCode(awaitResponse(() -> action.doMaster(ignore), resp -> !(resp instanceof CorsHttpResponse))))
+                .isEqualTo(404);
+    }
+
+    @Test
+    void persistSnapshotsWritesRequestedSnapshots(@TempDir Path dir) throws IOException {
+        final StatusOverviewAction action = createSpy();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        final PluginWrapper plugin = mockPlugin("pi0", "plugin-0", "0.0.1");
+        when(pluginManager.getPlugins()).thenReturn(Collections.singletonList(plugin));
+        doReturn(dir.resolve("snapshots.bin")).when(action).getSnapshotFile();
+
+        action.doPlugins(ignore);
+        action.persistSnapshots(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+        final Map<String, Snapshot> snapshots = SnapshotStore.read(dir.resolve("snapshots.bin"));
+        assertThat(snapshots.keySet()).containsExactly("plugins");
+        assertThat(new String(snapshots.get("plugins").getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"displayName\":\"plugin-0\",\"name\":\"pi0\",\"version\":\"0.0.1\"}]");
+    }
+
+    @Test
+    void persistSnapshotsIsThrottled() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+
+        action.persistSnapshots(System.currentTimeMillis());
+        verify(action, never()).getSnapshotFile();
+    }
+
+    @Test
+    void persistSnapshotsSkipsWriteWithoutSnapshots(@TempDir Path dir) {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+
+        action.persistSnapshots(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        verify(action, never()).getSnapshotFile();
+        assertThat(dir.resolve("snapshots.bin").toFile().exists()).isFalse();
+    }
+
+    @Test
+    void restoredSnapshotIsServedUntilRefreshed(@TempDir Path dir) throws IOException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        final PluginWrapper plugin = mockPlugin("pi0", "plugin-0", "0.0.1");
+        when(pluginManager.getPlugins()).thenReturn(Collections.singletonList(plugin));
+        doReturn(dir.resolve("snapshots.bin")).when(action).getSnapshotFile();
+        SnapshotStore.write(dir.resolve("snapshots.bin"), Map.of("plugins", new Snapshot("[]", 1_000L)));
+
+        action.restoreSnapshots();
+
+        assertThat(responseString(awaitResponse(() -> action.doPlugins(ignore), resp -> responseString(resp).contains("pi0"))))
+                .isEqualTo("[{\"displayName\":\"plugin-0\",\"name\":\"pi0\",\"version\":\"0.0.1\"}]");
+        verify(pluginManager, times(1)).getPlugins();
+    }
+
+    @Test
+    void restoredAgentsSnapshotSeedsGeneration(@TempDir Path dir) throws IOException, InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+        doReturn(dir.resolve("snapshots.bin")).when(action).getSnapshotFile();
+        final NodeStatus agent = new NodeStatus(null, null, null, null, null, "Online", null);
+        SnapshotStore.write(dir.resolve("snapshots.bin"), Map.of("agents",
+                new Snapshot("[{}]".getBytes(StandardCharsets.UTF_8), 1_000L, Map.of("agent-0", agent), 5L)));
+
+        action.restoreSnapshots();
+
+        assertThat(responseString(awaitResponse(() -> action.doAgents(changesRequest(Map.of("since", "5"))),
+                resp -> responseString(resp).contains("\"generation\":6"))))
+                .isEqualTo("{\"generation\":6,\"full\":false,\"changed\":{},\"removed\":[\"agent-0\"]}");
+    }
+
+    @Test
+    void restoreSnapshotsIgnoresMissingFile(@TempDir Path dir) {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doReturn(dir.resolve("snapshots.bin")).when(action).getSnapshotFile();
+
+        action.restoreSnapshots();
+        verify(action, never()).getJenkins();
+    }
+
+    @Test
+    void requestServesLastSnapshotWhileRefreshing() throws InterruptedException {
+        final StatusOverviewAction action = createSpy();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        final CountDownLatch refreshStarted = new CountDownLatch(1);
+        final CountDownLatch refreshBlocked = new CountDownLatch(1);
+        when(pluginManager.getPlugins()).thenReturn(Collections.emptyList()).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            refreshBlocked.await();
+            return Collections.singletonList(mockPlugin("pi0", "plugin-0", "0.0.1"));
+        });
+
+        assertThat(responseString(action.doPlugins(ignore))).isEqualTo("[]");
+        final CompletableFuture<Void> refresh = action.refreshSnapshots();
+        refreshStarted.await();
+
+        assertThat(responseString(action.doPlugins(ignore))).isEqualTo("[]");
+        refreshBlocked.countDown();
+        refresh.join();
+        assertThat(responseString(awaitResponse(() -> action.doPlugins(ignore), resp -> responseString(resp).contains("pi0"))))
+                .contains("pi0");
+    }
+
+    @Test
+    void allRequestReturnsAllSections() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final Computer master = mock(Computer.class);
+        doReturn(new Computer[]{master}).when(jenkins).getComputers();
+        final NodeComputerDetails masterDetails = mockNodeDetails("master", 0);
+        doReturn(masterDetails).when(action).getNodeDetails(master);
+        mockAgents(action, "agent-0");
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        final PluginWrapper plugin = mockPlugin("pi0", "plugin-0", "0.0.1");
+        when(pluginManager.getPlugins()).thenReturn(Collections.singletonList(plugin));
+
+        final HttpResponse resp = action.doAll(ignore);
+        assertThat(responseString(resp)).isEqualTo("{\"generation\":1,\"master\":[{\"numExecutors\":\"0\","
+                + "\"memory\":\"2/8 GB\",\"javaVersion\":\"11.2.3\",\"name\":\"master\",\"operatingSystem\":\"Linux\","
+                + "\"coreVersion\":\"1.2.3\"}],\"agents\":[{\"numExecutors\":\"1\",\"memory\":\"2/8 GB\","
+                + "\"javaVersion\":\"11.2.3\",\"name\":\"agent-0\",\"operatingSystem\":\"Linux\",\"status\":\"Online\"}],"
+                + "\"plugins\":[{\"displayName\":\"plugin-0\",\"name\":\"pi0\",\"version\":\"0.0.1\"}]}");
+        verify(action).checkPermission();
+    }
+
+    @Test
+    void allRequestWithoutMaster() {
+        final StatusOverviewAction action = createSpy();
+        doReturn(new Computer[]{null}).when(jenkins).getComputers();
+        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        when(pluginManager.getPlugins()).thenReturn(Collections.emptyList());
+
+        assertThat(responseString(action.doAll(ignore))).isEqualTo("{\"generation\":1,\"master\":null,\"agents\":[],\"plugins\":[]}");
+    }
+
+    @Test
+    void allRequestSharesAgentsSnapshot() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        doReturn(new Computer[]{null}).when(jenkins).getComputers();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        when(pluginManager.getPlugins()).thenReturn(Collections.emptyList());
+        mockAgents(action, "agent-0", "agent-1");
+
+        final String all = responseString(action.doAll(ignore));
+        final String agents = responseString(action.doAgents(ignore));
+        assertThat(all).contains("\"agents\":" + agents + ",");
+        verify(jenkins, times(1)).getNodes();
+    }
+
+    @Test
+    void agentChangeUpdatesAllSections() throws IOException, Descriptor.FormException {
         final StatusOverviewAction action = createSpy();
+        doReturn(new Computer[]{null}).when(jenkins).getComputers();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        doReturn(pluginManager).when(jenkins).getPluginManager();
+        when(pluginManager.getPlugins()).thenReturn(Collections.emptyList());
         final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
         doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
-        doReturn(null).when(action).getComputer(node);
+        doReturn(node).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        final NodeComputerDetails details = mockNodeDetails("agent-0", 1);
+        when(details.isOffline()).thenReturn(false, true);
+        when(details.getOfflineCauseReason()).thenReturn("disconnected");
+        doReturn(computer).when(action).getComputer(node);
+        doReturn(details).when(action).getNodeDetails(computer);
 
-        final HttpResponse resp = action.doAgents(ignore);
-        assertThat(responseString(resp)).isEqualTo("[]");
+        assertThat(responseString(action.doAll(ignore))).contains("\"status\":\"Online\"");
+        action.agentChanged("agent-0").join();
+
+        final String all = responseString(action.doAll(ignore));
+        assertThat(all).startsWith("{\"generation\":2,");
+        assertThat(all).contains("\"status\":\"Offline (disconnected)\"");
+        verify(pluginManager, times(1)).getPlugins();
     }
 
     @Test
-    void agentsRequestCaches() {
+    void summaryRequestReturnsTotals() throws IOException, Descriptor.FormException {
         final StatusOverviewAction action = createSpy();
-        doReturn(Collections.emptyList()).when(jenkins).getNodes();
+        final DumbSlave nodeA = new DumbSlave("agent-0", "/tmp/a", null);
+        final DumbSlave nodeB = new DumbSlave("agent-1", "/tmp/b", null);
+        doReturn(Arrays.asList(nodeA, nodeB)).when(jenkins).getNodes();
+        final Computer computerA = mock(Computer.class);
+        when(computerA.getNumExecutors()).thenReturn(4);
+        when(computerA.countBusy()).thenReturn(2);
+        final Computer computerB = mock(Computer.class);
+        when(computerB.isOffline()).thenReturn(true);
+        when(computerB.getNumExecutors()).thenReturn(1);
+        doReturn(computerA).when(action).getComputer(nodeA);
+        doReturn(computerB).when(action).getComputer(nodeB);
 
-        final HttpResponse resp0 = action.doAgents(ignore);
-        final HttpResponse resp1 = action.doAgents(ignore);
+        assertThat(responseString(action.doSummary(ignore))).isEqualTo("{\"agents\":{\"online\":1,\"offline\":1},"
+                + "\"executors\":{\"total\":5,\"busy\":2},\"memory\":{\"total\":0,\"used\":0}}");
+        verify(action).checkPermission();
+    }
 
-        assertThat(responseString(resp0)).isEqualTo(responseString(resp1));
+    @Test
+    void summaryIsUpdatedIncrementally() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        doReturn(node, (Object) null).when(jenkins).getNode("agent-0");
+        final Computer computer = mock(Computer.class);
+        when(computer.isOffline()).thenReturn(false, true);
+        when(computer.getNumExecutors()).thenReturn(2);
+        doReturn(computer).when(action).getComputer(node);
+
+        assertThat(responseString(action.doSummary(ignore))).startsWith("{\"agents\":{\"online\":1,\"offline\":0}");
+        action.agentChanged("agent-0").join();
+        assertThat(responseString(action.doSummary(ignore))).startsWith("{\"agents\":{\"online\":0,\"offline\":1}");
+        action.agentChanged("agent-0").join();
+        assertThat(responseString(action.doSummary(ignore))).startsWith("{\"agents\":{\"online\":0,\"offline\":0},"
+                + "\"executors\":{\"total\":0,");
         verify(jenkins, times(1)).getNodes();
     }
 
+    @Test
+    void summaryIsRefreshedWithSnapshots() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        final DumbSlave node = new DumbSlave("agent-0", "/tmp/a", null);
+        doReturn(Collections.singletonList(node)).when(jenkins).getNodes();
+        final Computer computer = mock(Computer.class);
+        when(computer.getNumExecutors()).thenReturn(2);
+        when(computer.countBusy()).thenReturn(0, 2);
+        doReturn(computer).when(action).getComputer(node);
+
+        assertThat(responseString(action.doSummary(ignore))).contains("\"busy\":0");
+        action.refreshSnapshots().join();
+        assertThat(responseString(action.doSummary(ignore))).contains("\"busy\":2");
+    }
+
+    @Test
+    void metricsRequestChecksPermission() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doThrow(AccessDeniedException.class).when(action).checkPermission();
+        assertThrows(AccessDeniedException.class, () -> action.doMetrics(ignore));
+    }
+
+    @Test
+    void metricsContainCollectionTimingsAndCacheStats() {
+        final StatusOverviewAction action = createSpy();
+        final Computer computer = mock(Computer.class);
+        doReturn(new Computer[]{computer}).when(jenkins).getComputers();
+        final NodeComputerDetails details = mockNodeDetails("master", 0);
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        action.doMaster(ignore);
+        action.doMaster(ignore);
+        final String metrics = responseString(action.doMetrics(ignore));
+        assertThat(metrics).contains("# TYPE status_overview_collection_seconds histogram\n");
+        assertThat(metrics).contains("status_overview_collection_seconds_count{endpoint=\"master\"} 1\n");
+        assertThat(metrics).contains("status_overview_serialization_seconds_count{endpoint=\"master\"} 1\n");
+        assertThat(metrics).contains("status_overview_payload_bytes_bucket{endpoint=\"master\",le=\"1024\"} 1\n");
+        assertThat(metrics).contains("status_overview_cache_hits_total 1\n");
+        assertThat(metrics).contains("status_overview_cache_misses_total 1\n");
+        assertThat(metrics).contains("status_overview_cache_size 1\n");
+    }
+
+    @Test
+    void metricsContainAgentCallTimings() throws IOException, Descriptor.FormException {
+        final StatusOverviewAction action = createSpy();
+        mockAgents(action, "agent-0", "agent-1");
+
+        action.doAgents(ignore);
+        final String metrics = responseString(action.doMetrics(ignore));
+        assertThat(metrics).contains("status_overview_agent_call_seconds_count 2\n");
+        assertThat(metrics).contains("status_overview_collection_seconds_count{endpoint=\"agents\"} 1\n");
+        assertThat(metrics).contains("status_overview_agent_timeouts_total 0\n");
+    }
+
     @Test
     void masterRequestChangesACLContext() {
         final StatusOverviewAction action = createSpy();
@@ -245,6 +1233,27 @@ class StatusOverviewActionTest {
                 "\"javaVersion\":\"11.2.3\",\"name\":\"master\",\"operatingSystem\":\"Linux\",\"coreVersion\":\"1.2.3\"}]");
     }
 
+    @Test
+    void masterFieldsLimitOutput() {
+        final StatusOverviewAction action = createSpy();
+        final Computer computer = mock(Computer.class);
+        doReturn(new Computer[]{computer}).when(jenkins).getComputers();
+        final NodeComputerDetails details = mock(NodeComputerDetails.class);
+        when(details.getCoreVersion()).thenReturn("1.2.3");
+        doReturn(details).when(action).getNodeDetails(computer);
+
+        assertThat(responseString(action.doMaster(fieldsRequest("coreVersion")))).isEqualTo("[{\"coreVersion\":\"1.2.3\"}]");
+        verify(details, never()).getHostname();
+    }
+
+    @Test
+    void masterFieldsRejectUnknownField() {
+        final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
+        doNothing().when(action).checkPermission();
+
+        assertThat(responseCode(action.doMaster(fieldsRequest("status")))).isEqualTo(400);
+    }
+
     @Test
     void masterRequestReturnsErrorIfNullNode() {
         final StatusOverviewAction action = createSpy();
@@ -273,7 +1282,7 @@ class StatusOverviewActionTest {
     private String responseString(@NonNull HttpResponse resp) {
         if (resp instanceof CorsHttpResponse) {
             final CorsHttpResponse spy = Mockito.spy((CorsHttpResponse) resp);
-            doReturn(jenkins).when(spy).getJenkins();
+            doReturn(ConfigurationSnapshot.DEFAULTS).when(spy).getConfiguration();
             return ResponseCapture.fromResponse(spy).getResponseString();
         }
         return ResponseCapture.fromResponse(resp).getResponseString();
@@ -283,6 +1292,27 @@ class StatusOverviewActionTest {
         return ResponseCapture.fromResponse(resp).getStatus();
     }
 
+    @NonNull
+    private HttpResponse awaitResponse(@NonNull Supplier<HttpResponse> request, @NonNull Predicate<HttpResponse> condition)
+            throws InterruptedException {
+        HttpResponse resp = request.get();
+
+        for (int i = 0; i < 250 && !condition.test(resp); i++) {
+            Thread.sleep(20L);
+            resp = request.get();
+        }
+        return resp;
+    }
+
+    @NonNull
+    private static ConfigurationSnapshot configuration(int collectorThreads, int agentTimeout, int circuitBreakerThreshold,
+                                                       boolean archiveHistory) {
+        final ConfigurationSnapshot defaults = ConfigurationSnapshot.DEFAULTS;
+        return new ConfigurationSnapshot("", collectorThreads, agentTimeout, circuitBreakerThreshold,
+                defaults.getCircuitBreakerCooldown(), defaults.getHistoryRetention(), defaults.getArchiveRetention(),
+                defaults.getArchiveCompaction(), archiveHistory, false);
+    }
+
     @NonNull
     private StatusOverviewAction createSpy() {
         final StatusOverviewAction action = Mockito.spy(StatusOverviewAction.class);
@@ -292,6 +1322,85 @@ class StatusOverviewActionTest {
         return action;
     }
 
+    private void mockAgents(@NonNull StatusOverviewAction action, @NonNull String... names)
+            throws IOException, Descriptor.FormException {
+        final List<DumbSlave> nodes = new ArrayList<>();
+
+        for (final String name : names) {
+            final DumbSlave node = new DumbSlave(name, "/tmp/" + name, null);
+            final Computer computer = mock(Computer.class);
+            final NodeComputerDetails details = mockNodeDetails(name, 1);
+            doReturn(computer).when(action).getComputer(node);
+            doReturn(details).when(action).getNodeDetails(computer);
+            nodes.add(node);
+        }
+        doReturn(nodes).when(jenkins).getNodes();
+    }
+
+    @NonNull
+    private StaplerRequest2 pageRequest(@CheckForNull String limit, @CheckForNull String cursor) {
+        final Map<String, String> parameters = new HashMap<>();
+        parameters.put("limit", limit);
+        parameters.put("cursor", cursor);
+        return request(parameters);
+    }
+
+    @NonNull
+    private StaplerRequest2 historyRequest(@NonNull Map<String, String> parameters) {
+        final StaplerRequest2 req = request(parameters);
+        when(req.getRestOfPath()).thenReturn("/history");
+        return req;
+    }
+
+    @NonNull
+    private StaplerRequest2 archiveRequest(@NonNull Map<String, String> parameters) {
+        final StaplerRequest2 req = request(parameters);
+        when(req.getRestOfPath()).thenReturn("/archive");
+        return req;
+    }
+
+    @NonNull
+    private StaplerRequest2 changesRequest(@NonNull Map<String, String> parameters) {
+        final StaplerRequest2 req = request(parameters);
+        when(req.getRestOfPath()).thenReturn("/changes");
+        return req;
+    }
+
+    @NonNull
+    private StaplerRequest2 streamRequest() {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getRestOfPath()).thenReturn("/stream");
+        return req;
+    }
+
+    @NonNull
+    private StaplerRequest2 fieldsRequest(@NonNull String fields) {
+        return request(Map.of("fields", fields));
+    }
+
+    @NonNull
+    private StaplerRequest2 request(@NonNull Map<String, String> parameters) {
+        final StaplerRequest2 req = mock(StaplerRequest2.class);
+        when(req.getParameter(anyString())).thenAnswer(invocation -> parameters.get(invocation.<String>getArgument(0)));
+        return req;
+    }
+
+    @NonNull
+    private static String cursor(@NonNull String name) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NonNull
+    private static List<String> names(@NonNull String response) {
+        final Matcher matcher = Pattern.compile("\"name\":\"([^\"]+)\"").matcher(response);
+        final List<String> names = new ArrayList<>();
+
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
     @NonNull
     private PluginWrapper mockPlugin(String shortName, String displayName, String version) {
         final PluginWrapper plugin = mock(PluginWrapper.class);
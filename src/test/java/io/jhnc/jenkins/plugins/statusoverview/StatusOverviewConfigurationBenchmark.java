@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import jenkins.model.Jenkins;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@JmhBenchmark
+public class StatusOverviewConfigurationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Configuration extends JmhBenchmarkState {
+        private StatusOverviewConfiguration.DescriptorImpl descriptor;
+
+        @Override
+        public void setup() {
+            descriptor = Jenkins.get().getDescriptorByType(StatusOverviewConfiguration.DescriptorImpl.class);
+            descriptor.setOverviewLink("https://status.example.org/overview");
+        }
+    }
+
+    @Benchmark
+    public String getLinkRoot(Configuration configuration) {
+        return configuration.descriptor.getLinkRoot();
+    }
+
+    @Benchmark
+    public CorsHeaders getPublishedCorsHeaders(Configuration configuration) {
+        return ConfigurationSnapshot.get().getCorsHeaders();
+    }
+}
@@ -4,6 +4,7 @@ import hudson.model.Descriptor;
 import hudson.util.FormValidation;
 import jenkins.model.Jenkins;
 import net.sf.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.mockito.MockedStatic;
@@ -14,11 +15,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 class StatusOverviewConfigurationTest {
+    @AfterEach
+    void tearDown() {
+        ConfigurationSnapshot.publish(null);
+    }
 
     @Test
     void overviewLinkIsEmptyByDefault() {
@@ -56,6 +62,176 @@ class StatusOverviewConfigurationTest {
         assertThat(descriptor.getLinkRoot()).isEqualTo("https://abc.de");
     }
 
+    @Test
+    void malformedOverviewLinkIsLoadedWithoutCors() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        descriptor.setOverviewLink("https://abc.de/efg hi");
+
+        assertThat(descriptor.getOverviewLink()).isEqualTo("https://abc.de/efg hi");
+        assertThat(descriptor.getLinkRoot()).isEmpty();
+        assertThat(ConfigurationSnapshot.from(descriptor).getCorsHeaders()).isSameInstanceAs(CorsHeaders.NONE);
+        assertThat(ConfigurationSnapshot.get().getCorsHeaders()).isSameInstanceAs(CorsHeaders.NONE);
+    }
+
+    @Test
+    void setterPublishesConfiguration() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        descriptor.setOverviewLink("https://abc.de/efg/hi");
+        final ConfigurationSnapshot configuration = ConfigurationSnapshot.get();
+
+        assertThat(configuration.getOverviewLink()).isEqualTo("https://abc.de/efg/hi");
+        assertThat(configuration.getCorsHeaders().getOrigin()).isEqualTo("https://abc.de");
+        assertThat(ConfigurationSnapshot.get()).isSameInstanceAs(configuration);
+        descriptor.setOverviewLink("");
+        assertThat(ConfigurationSnapshot.get().getCorsHeaders()).isSameInstanceAs(CorsHeaders.NONE);
+    }
+
+    @Test
+    void collectorThreadsHasDefault() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.getCollectorThreads()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_COLLECTOR_THREADS);
+    }
+
+    @Test
+    void collectorThreadsFallsBackToDefaultIfInvalid() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        descriptor.setCollectorThreads(0);
+        assertThat(descriptor.getCollectorThreads()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_COLLECTOR_THREADS);
+        descriptor.setCollectorThreads(5);
+        assertThat(descriptor.getCollectorThreads()).isEqualTo(5);
+    }
+
+    @Test
+    void checkCollectorThreadsRejectsNonPositive() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+
+            assertThat(descriptor.doCheckCollectorThreads(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckCollectorThreads(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            assertThat(descriptor.doCheckCollectorThreads(-3).kind).isEqualTo(FormValidation.Kind.ERROR);
+            verify(jenkins, times(3)).checkPermission(Jenkins.ADMINISTER);
+        }
+    }
+
+    @Test
+    void agentLimitsHaveDefaults() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.getAgentTimeout()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_AGENT_TIMEOUT);
+        assertThat(descriptor.getCircuitBreakerThreshold())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_THRESHOLD);
+        assertThat(descriptor.getCircuitBreakerCooldown())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_COOLDOWN);
+    }
+
+    @Test
+    void agentLimitsFallBackToDefaultIfInvalid() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        descriptor.setAgentTimeout(0);
+        descriptor.setCircuitBreakerThreshold(-1);
+        descriptor.setCircuitBreakerCooldown(0);
+        assertThat(descriptor.getAgentTimeout()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_AGENT_TIMEOUT);
+        assertThat(descriptor.getCircuitBreakerThreshold())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_THRESHOLD);
+        assertThat(descriptor.getCircuitBreakerCooldown())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_CIRCUIT_BREAKER_COOLDOWN);
+        descriptor.setAgentTimeout(10);
+        descriptor.setCircuitBreakerThreshold(5);
+        descriptor.setCircuitBreakerCooldown(120);
+        assertThat(descriptor.getAgentTimeout()).isEqualTo(10);
+        assertThat(descriptor.getCircuitBreakerThreshold()).isEqualTo(5);
+        assertThat(descriptor.getCircuitBreakerCooldown()).isEqualTo(120);
+    }
+
+    @Test
+    void historyRetentionFallsBackToDefaultIfInvalid() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.getHistoryRetention())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_HISTORY_RETENTION);
+        descriptor.setHistoryRetention(0);
+        assertThat(descriptor.getHistoryRetention())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_HISTORY_RETENTION);
+        descriptor.setHistoryRetention(48);
+        assertThat(descriptor.getHistoryRetention()).isEqualTo(48);
+    }
+
+    @Test
+    void archiveSettingsFallBackToDefaultIfInvalid() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.getArchiveRetention()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_RETENTION);
+        assertThat(descriptor.getArchiveCompaction())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_COMPACTION);
+        descriptor.setArchiveRetention(0);
+        descriptor.setArchiveCompaction(-1);
+        assertThat(descriptor.getArchiveRetention()).isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_RETENTION);
+        assertThat(descriptor.getArchiveCompaction())
+                .isEqualTo(StatusOverviewConfiguration.DescriptorImpl.DEFAULT_ARCHIVE_COMPACTION);
+        descriptor.setArchiveRetention(90);
+        descriptor.setArchiveCompaction(7);
+        assertThat(descriptor.getArchiveRetention()).isEqualTo(90);
+        assertThat(descriptor.getArchiveCompaction()).isEqualTo(7);
+    }
+
+    @Test
+    void cacheableGetIsDisabledByDefault() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.isCacheableGet()).isFalse();
+        descriptor.setCacheableGet(true);
+        assertThat(descriptor.isCacheableGet()).isTrue();
+        assertThat(ConfigurationSnapshot.get().isCacheableGet()).isTrue();
+    }
+
+    @Test
+    void archiveHistoryIsDisabledByDefault() {
+        final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+        assertThat(descriptor.isArchiveHistory()).isFalse();
+        descriptor.setArchiveHistory(true);
+        assertThat(descriptor.isArchiveHistory()).isTrue();
+        assertThat(ConfigurationSnapshot.get().isArchiveHistory()).isTrue();
+    }
+
+    @Test
+    void checkArchiveSettingsRejectNonPositive() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+
+            assertThat(descriptor.doCheckArchiveRetention(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckArchiveRetention(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            assertThat(descriptor.doCheckArchiveCompaction(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckArchiveCompaction(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            verify(jenkins, times(4)).checkPermission(Jenkins.ADMINISTER);
+        }
+    }
+
+    @Test
+    void checkHistoryRetentionRejectsNonPositive() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+
+            assertThat(descriptor.doCheckHistoryRetention(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckHistoryRetention(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            verify(jenkins, times(2)).checkPermission(Jenkins.ADMINISTER);
+        }
+    }
+
+    @Test
+    void checkAgentLimitsRejectNonPositive() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+
+            assertThat(descriptor.doCheckAgentTimeout(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckAgentTimeout(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            assertThat(descriptor.doCheckCircuitBreakerThreshold(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckCircuitBreakerThreshold(0).kind).isEqualTo(FormValidation.Kind.ERROR);
+            assertThat(descriptor.doCheckCircuitBreakerCooldown(1).kind).isEqualTo(FormValidation.Kind.OK);
+            assertThat(descriptor.doCheckCircuitBreakerCooldown(-1).kind).isEqualTo(FormValidation.Kind.ERROR);
+            verify(jenkins, times(6)).checkPermission(Jenkins.ADMINISTER);
+        }
+    }
+
     @Test
     void checkOverviewLinkChecksPermission() {
         try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
@@ -139,7 +315,138 @@ class StatusOverviewConfigurationTest {
             descriptor.configure(mock(StaplerRequest2.class), new JSONObject().element("statusOverviewLink", "https://xy.z"));
 
             assertThat(descriptor.getOverviewLink()).isEqualTo("https://xy.z");
+            assertThat(ConfigurationSnapshot.get().getOverviewLink()).isEqualTo("https://xy.z");
+            verify(descriptor).save();
+        }
+    }
+
+    @Test
+    void configureSetsCollectorThreads() throws Descriptor.FormException {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                    .element("statusOverviewLink", "")
+                    .element("collectorThreads", 32));
+
+            assertThat(descriptor.getCollectorThreads()).isEqualTo(32);
+            verify(descriptor).save();
+        }
+    }
+
+    @Test
+    void configureThrowsOnInvalidCollectorThreads() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("collectorThreads", 0)));
+        }
+    }
+
+    @Test
+    void configureSetsAgentLimits() throws Descriptor.FormException {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                    .element("statusOverviewLink", "")
+                    .element("agentTimeout", 10)
+                    .element("circuitBreakerThreshold", 5)
+                    .element("circuitBreakerCooldown", 120)
+                    .element("historyRetention", 48)
+                    .element("archiveRetention", 90)
+                    .element("archiveCompaction", 7));
+
+            assertThat(descriptor.getAgentTimeout()).isEqualTo(10);
+            assertThat(descriptor.getCircuitBreakerThreshold()).isEqualTo(5);
+            assertThat(descriptor.getCircuitBreakerCooldown()).isEqualTo(120);
+            assertThat(descriptor.getHistoryRetention()).isEqualTo(48);
+            assertThat(descriptor.getArchiveRetention()).isEqualTo(90);
+            assertThat(descriptor.getArchiveCompaction()).isEqualTo(7);
             verify(descriptor).save();
+
+            final ConfigurationSnapshot configuration = ConfigurationSnapshot.get();
+            assertThat(configuration.getAgentTimeout()).isEqualTo(10);
+            assertThat(configuration.getCircuitBreakerThreshold()).isEqualTo(5);
+            assertThat(configuration.getCircuitBreakerCooldown()).isEqualTo(120);
+            assertThat(configuration.getHistoryRetention()).isEqualTo(48);
+            assertThat(configuration.getArchiveRetention()).isEqualTo(90);
+            assertThat(configuration.getArchiveCompaction()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    void configureSetsCacheableGet() throws Descriptor.FormException {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                    .element("statusOverviewLink", "")
+                    .element("cacheableGet", true));
+
+            assertThat(descriptor.isCacheableGet()).isTrue();
+            assertThat(ConfigurationSnapshot.get().isCacheableGet()).isTrue();
+        }
+    }
+
+    @Test
+    void configureSetsArchiveHistory() throws Descriptor.FormException {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                    .element("statusOverviewLink", "")
+                    .element("archiveHistory", true));
+
+            assertThat(descriptor.isArchiveHistory()).isTrue();
+            assertThat(ConfigurationSnapshot.get().isArchiveHistory()).isTrue();
+        }
+    }
+
+    @Test
+    void configureThrowsOnInvalidAgentLimits() {
+        try (MockedStatic<Jenkins> mockStatic = Mockito.mockStatic(Jenkins.class)) {
+            final StatusOverviewConfiguration.DescriptorImpl descriptor = createSpy();
+            final Jenkins jenkins = mockJenkins(mockStatic);
+            when(jenkins.hasPermission(Jenkins.ADMINISTER)).thenReturn(true);
+
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("agentTimeout", 0)));
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("circuitBreakerThreshold", 0)));
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("circuitBreakerCooldown", 0)));
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("historyRetention", 0)));
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("archiveRetention", 0)));
+            assertThrows(Descriptor.FormException.class, () ->
+                    descriptor.configure(mock(StaplerRequest2.class), new JSONObject()
+                            .element("statusOverviewLink", "")
+                            .element("archiveCompaction", 0)));
         }
     }
 
@@ -34,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,7 +44,7 @@ class StatusOverviewLinkActionTest {
     @Mock
     Jenkins jenkins;
     @Mock
-    StatusOverviewConfiguration.DescriptorImpl descriptor;
+    ConfigurationSnapshot configuration;
 
     @Test
     void getTargetChecksPermission() {
@@ -56,49 +57,48 @@ class StatusOverviewLinkActionTest {
 
     @Test
     void notVisibleIfNoPermission() {
+        when(configuration.getOverviewLink()).thenReturn("https://abc.de/fg");
         when(jenkins.hasPermission(StatusOverviewAction.READ)).thenReturn(false);
+
         final StatusOverviewLinkAction action = createSpy();
+        doReturn(jenkins).when(action).getJenkins();
         assertThat(action.getIconFileName()).isNull();
         assertThat(action.getDisplayName()).isNull();
     }
 
     @Test
     void notVisibleIfUrlEmpty() {
-        when(descriptor.getOverviewLink()).thenReturn("");
-        when(jenkins.hasPermission(StatusOverviewAction.READ)).thenReturn(true);
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
+        when(configuration.getOverviewLink()).thenReturn("");
 
         final StatusOverviewLinkAction action = createSpy();
         assertThat(action.getIconFileName()).isNull();
         assertThat(action.getDisplayName()).isNull();
+        verify(action, never()).getJenkins();
     }
 
     @Test
-    void notVisibleIfUrlNull() {
-        when(descriptor.getOverviewLink()).thenReturn(null);
-        when(jenkins.hasPermission(StatusOverviewAction.READ)).thenReturn(true);
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
+    void notVisibleIfNotConfigured() {
+        final StatusOverviewLinkAction action = spy(StatusOverviewLinkAction.class);
+        doReturn(ConfigurationSnapshot.DEFAULTS).when(action).getConfiguration();
 
-        final StatusOverviewLinkAction action = createSpy();
         assertThat(action.getIconFileName()).isNull();
         assertThat(action.getDisplayName()).isNull();
     }
 
     @Test
     void visibleIfPermissionAndValidUrl() {
-        when(descriptor.getOverviewLink()).thenReturn("https://abc.de/fg");
+        when(configuration.getOverviewLink()).thenReturn("https://abc.de/fg");
         when(jenkins.hasPermission(StatusOverviewAction.READ)).thenReturn(true);
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
 
         final StatusOverviewLinkAction action = createSpy();
+        doReturn(jenkins).when(action).getJenkins();
         assertThat(action.getIconFileName()).endsWith(".png");
         assertThat(action.getDisplayName()).isNotEmpty();
     }
 
     @Test
     void getUrlReturnsUrl() {
-        when(descriptor.getOverviewLink()).thenReturn("https://ab.cd");
-        when(jenkins.getDescriptor(StatusOverviewConfiguration.class)).thenReturn(descriptor);
+        when(configuration.getOverviewLink()).thenReturn("https://ab.cd");
 
         final StatusOverviewLinkAction action = createSpy();
         assertThat(action.getUrlName()).isEqualTo("https://ab.cd");
@@ -107,7 +107,7 @@ class StatusOverviewLinkActionTest {
     @NonNull
     private StatusOverviewLinkAction createSpy() {
         final StatusOverviewLinkAction action = spy(StatusOverviewLinkAction.class);
-        doReturn(jenkins).when(action).getJenkins();
+        doReturn(configuration).when(action).getConfiguration();
         return action;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class StatusOverviewMetricsTest {
+    @Test
+    void renderEmptyMetrics() {
+        final String metrics = new StatusOverviewMetrics().render(CacheStats.empty(), 0L);
+
+        assertThat(metrics).contains("# HELP status_overview_collection_seconds Time spent collecting snapshot data.\n"
+                + "# TYPE status_overview_collection_seconds histogram\n");
+        assertThat(metrics).contains("status_overview_agent_call_seconds_count 0\n");
+        assertThat(metrics).contains("status_overview_cache_hits_total 0\n");
+        assertThat(metrics).contains("status_overview_cache_size 0\n");
+        assertThat(metrics).doesNotContain("endpoint=");
+    }
+
+    @Test
+    void renderRecordedMetrics() {
+        final StatusOverviewMetrics metrics = new StatusOverviewMetrics();
+
+        metrics.recordCollection("agents", TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.recordCollection("plugins", TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordSerialization("agents", TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordPayload("agents", 2000);
+        metrics.recordAgentCall(TimeUnit.SECONDS.toNanos(2));
+        metrics.recordAgentTimeout();
+        metrics.recordAgentSkipped();
+        metrics.recordAgentSkipped();
+
+        final String rendered = metrics.render(CacheStats.of(5, 2, 2, 1, TimeUnit.SECONDS.toNanos(3), 1, 1), 2L);
+        assertThat(rendered).contains("status_overview_collection_seconds_bucket{endpoint=\"agents\",le=\"0.01\"} 0\n"
+                + "status_overview_collection_seconds_bucket{endpoint=\"agents\",le=\"0.025\"} 1\n");
+        assertThat(rendered).contains("status_overview_collection_seconds_count{endpoint=\"plugins\"} 1\n");
+        assertThat(rendered).contains("status_overview_serialization_seconds_sum{endpoint=\"agents\"} 0.003\n");
+        assertThat(rendered).contains("status_overview_payload_bytes_bucket{endpoint=\"agents\",le=\"4096\"} 1\n");
+        assertThat(rendered).contains("status_overview_agent_call_seconds_bucket{le=\"2.5\"} 1\n");
+        assertThat(rendered).contains("status_overview_agent_timeouts_total 1\n");
+        assertThat(rendered).contains("status_overview_agent_skipped_total 2\n");
+        assertThat(rendered).contains("status_overview_cache_hits_total 5\n");
+        assertThat(rendered).contains("status_overview_cache_misses_total 2\n");
+        assertThat(rendered).contains("status_overview_cache_load_success_total 2\n");
+        assertThat(rendered).contains("status_overview_cache_load_failure_total 1\n");
+        assertThat(rendered).contains("status_overview_cache_load_seconds_total 3\n");
+        assertThat(rendered).contains("status_overview_cache_evictions_total 1\n");
+        assertThat(rendered).contains("status_overview_cache_size 2\n");
+    }
+
+    @Test
+    void renderSortsEndpoints() {
+        final StatusOverviewMetrics metrics = new StatusOverviewMetrics();
+
+        metrics.recordCollection("plugins", 1L);
+        metrics.recordCollection("agents", 1L);
+
+        final String rendered = metrics.render(CacheStats.empty(), 0L);
+        assertThat(rendered.indexOf("endpoint=\"agents\"")).isLessThan(rendered.indexOf("endpoint=\"plugins\""));
+    }
+}
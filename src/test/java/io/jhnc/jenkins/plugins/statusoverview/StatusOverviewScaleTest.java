@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 jhnc-oss
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jhnc.jenkins.plugins.statusoverview;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.model.Descriptor;
+import hudson.model.Node;
+import hudson.model.Slave;
+import hudson.slaves.JNLPLauncher;
+import hudson.slaves.SlaveComputer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.StaplerRequest2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@WithJenkins
+@EnabledIfSystemProperty(named = "statusOverview.scaleTest", matches = "true")
+class StatusOverviewScaleTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatusOverviewScaleTest.class);
+    private static final int AGENTS = Integer.getInteger("statusOverview.scaleTest.agents", 2000);
+    private static final long LATENCY_MS = Long.getLong("statusOverview.scaleTest.latencyMs", 20L);
+    private static final int CLIENTS = Integer.getInteger("statusOverview.scaleTest.clients", 16);
+    private static final int REQUESTS = Integer.getInteger("statusOverview.scaleTest.requests", 500);
+    private static final StaplerRequest2 REQUEST = mock(StaplerRequest2.class, withSettings().stubOnly());
+    private static final Map<String, Function<StatusOverviewAction, HttpResponse>> ENDPOINTS = Map.of(
+            "agents", action -> action.doAgents(REQUEST),
+            "master", action -> action.doMaster(REQUEST),
+            "plugins", action -> action.doPlugins(REQUEST));
+
+    @Test
+    void endpointsScaleWithSlowAgents(JenkinsRule j) throws Exception {
+        final List<Node> nodes = new ArrayList<>(AGENTS);
+
+        for (int i = 0; i < AGENTS; i++) {
+            nodes.add(new SlowAgent("agent-" + i));
+        }
+        j.jenkins.setNodes(nodes);
+
+        final StatusOverviewAction action = ExtensionList.lookupSingleton(StatusOverviewAction.class);
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final long heapBefore = usedHeap(memory);
+
+        for (final Map.Entry<String, Function<StatusOverviewAction, HttpResponse>> endpoint : ENDPOINTS.entrySet()) {
+            final long start = System.nanoTime();
+            final ResponseCapture response = ResponseCapture.fromResponse(endpoint.getValue().apply(action));
+            report("cold " + endpoint.getKey(), List.of(System.nanoTime() - start), System.nanoTime() - start);
+            assertThat(response.getResponseBytes().length).isGreaterThan(0);
+        }
+
+        final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        final List<Future<?>> results = new ArrayList<>(CLIENTS);
+        final long start = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+            for (int client = 0; client < CLIENTS; client++) {
+                final int offset = client;
+                results.add(clients.submit(() -> request(action, latencies, offset)));
+            }
+            action.refreshSnapshots();
+
+            for (final Future<?> result : results) {
+                result.get(10, TimeUnit.MINUTES);
+            }
+        }
+
+        final long elapsed = System.nanoTime() - start;
+        latencies.forEach((endpoint, values) -> report(endpoint, new ArrayList<>(values), elapsed));
+        LOGGER.info("heap growth: {} MB", (usedHeap(memory) - heapBefore) / (1024 * 1024));
+
+        final String agents = ResponseCapture.fromResponse(action.doAgents(REQUEST)).getResponseString();
+        assertThat(agents.split("\"name\":", -1)).hasLength(AGENTS + 1);
+    }
+
+    private static void request(@NonNull StatusOverviewAction action, @NonNull Map<String, ConcurrentLinkedQueue<Long>> latencies,
+                                int offset) {
+        final List<String> endpoints = List.copyOf(ENDPOINTS.keySet());
+
+        for (int i = 0; i < REQUESTS / CLIENTS; i++) {
+            final String endpoint = endpoints.get((i + offset) % endpoints.size());
+            final long start = System.nanoTime();
+            final ResponseCapture response = ResponseCapture.fromResponse(ENDPOINTS.get(endpoint).apply(action));
+            latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - start);
+            assertThat(response.getStatus()).isAnyOf(0, 200);
+        }
+    }
+
+    private static void report(@NonNull String name, @NonNull List<Long> latencies, long elapsedNanos) {
+        final List<Long> sorted = latencies.stream().sorted().toList();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info(String.format(Locale.ROOT, "%-12s requests: %5d, throughput: %8.1f/s, p50: %8.2f ms, p99: %8.2f ms", name,
+                    sorted.size(), sorted.size() / (elapsedNanos / 1e9), percentile(sorted, 0.5), percentile(sorted, 0.99)));
+        }
+    }
+
+    private static double percentile(@NonNull List<Long> sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static long usedHeap(@NonNull MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void sleep() throws InterruptedException {
+        Thread.sleep(LATENCY_MS);
+    }
+
+    public static final class SlowAgent extends Slave {
+        public SlowAgent(@NonNull String name) throws Descriptor.FormException, IOException {
+            super(name, "/tmp/" + name, new JNLPLauncher());
+        }
+
+        @Override
+        public SlaveComputer createComputer() {
+            return new SlowComputer(this);
+        }
+
+        @TestExtension
+        public static final class DescriptorImpl extends SlaveDescriptor {
+        }
+    }
+
+    public static final class SlowComputer extends SlaveComputer {
+        public SlowComputer(@NonNull Slave slave) {
+            super(slave);
+        }
+
+        @Override
+        public String getHostName() throws InterruptedException {
+            sleep();
+            return getName() + ".example.org";
+        }
+
+        @Override
+        public Map<Object, Object> getSystemProperties() throws InterruptedException {
+            sleep();
+            return Map.of("java.runtime.name", "OpenJDK Runtime Environment", "java.runtime.version", "21.0.1+12-LTS");
+        }
+    }
+}